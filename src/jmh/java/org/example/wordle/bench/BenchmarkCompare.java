@@ -0,0 +1,84 @@
+package org.example.wordle.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH CSV result files ({@code -rf csv -rff FILE}) and flags regressions.
+ *
+ * Usage: {@code BenchmarkCompare BASELINE.csv CURRENT.csv [THRESHOLD_PERCENT]}.
+ * Rows are matched on benchmark name plus parameters. The primary score and the
+ * {@code gc.alloc.rate.norm} metric from {@code -prof gc} (bytes per operation) are checked;
+ * other secondary metrics are listed for reference only. Exits with status 1 if any checked
+ * metric got worse by more than the threshold (default 10%).
+ */
+public class BenchmarkCompare {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkCompare BASELINE.csv CURRENT.csv [THRESHOLD_PERCENT]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Double> base = read(Path.of(args[0]));
+        Map<String, Double> cur = read(Path.of(args[1]));
+        boolean regressed = false;
+        System.out.printf("%-80s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (var e : cur.entrySet()) {
+            Double before = base.get(e.getKey());
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f %9s%n", e.getKey(), "-", e.getValue(), "new");
+                continue;
+            }
+            double pct = before == 0 ? 0 : 100.0 * (e.getValue() - before) / before;
+            boolean checked = !e.getKey().contains(":") || e.getKey().contains(":gc.alloc.rate.norm");
+            boolean higherIsBetter = e.getKey().contains("[thrpt]") && !e.getKey().contains(":");
+            boolean worse = checked && (higherIsBetter ? -pct : pct) > threshold;
+            regressed |= worse;
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%%%s%n", e.getKey(), before, e.getValue(), pct, worse ? "  REGRESSION" : "");
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    /** key: "benchmark [mode] param=value..." -> score */
+    private static Map<String, Double> read(Path csv) throws IOException {
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) throw new IOException("Empty result file: " + csv);
+        List<String> header = split(lines.get(0));
+        int name = header.indexOf("Benchmark"), mode = header.indexOf("Mode"), score = header.indexOf("Score");
+        if (name < 0 || mode < 0 || score < 0) throw new IOException("Not a JMH CSV result: " + csv);
+        Map<String, Double> out = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            List<String> cols = split(line);
+            if (cols.size() < header.size()) continue;
+            StringBuilder key = new StringBuilder(cols.get(name)).append(" [").append(cols.get(mode)).append(']');
+            for (int c = 0; c < header.size(); c++) {
+                if (header.get(c).startsWith("Param: ") && !cols.get(c).isEmpty()) key.append(' ').append(header.get(c).substring(7)).append('=').append(cols.get(c));
+            }
+            try {
+                out.put(key.toString(), Double.parseDouble(cols.get(score)));
+            } catch (NumberFormatException ignored) { /* NaN-like placeholders for empty metrics */ }
+        }
+        return out;
+    }
+
+    private static List<String> split(String line) {
+        List<String> cols = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') quoted = !quoted;
+            else if (ch == ',' && !quoted) { cols.add(cur.toString()); cur.setLength(0); }
+            else cur.append(ch);
+        }
+        cols.add(cur.toString());
+        return cols;
+    }
+}
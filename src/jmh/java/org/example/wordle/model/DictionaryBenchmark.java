@@ -0,0 +1,49 @@
+package org.example.wordle.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Guess validation and word-list loading. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DictionaryBenchmark {
+    // mix of accepted, unknown and malformed guesses, in the case a player might type them
+    private static final String[] PROBES = {"crane", "ALERT", "QZXJV", "zebra", "AB1DE", "Heart", "APPLE", "TOOLONG"};
+
+    private SimpleDictionary simple;
+    private EnglishAllowListDictionary allowList;
+    private int i;
+
+    @Setup
+    public void setup() {
+        simple = new SimpleDictionary();
+        allowList = new EnglishAllowListDictionary(simple, "/english-words-5.txt");
+    }
+
+    @Benchmark
+    public boolean allowListIsValidWord() {
+        return allowList.isValidWord(PROBES[i++ & 7]);
+    }
+
+    @Benchmark
+    public boolean simpleIsValidWord() {
+        return simple.isValidWord(PROBES[i++ & 7]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Dictionary loadSimple() {
+        return new SimpleDictionary();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Dictionary loadAllowList() {
+        return new EnglishAllowListDictionary(simple, "/english-words-5.txt");
+    }
+}
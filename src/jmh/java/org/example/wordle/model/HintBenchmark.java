@@ -0,0 +1,84 @@
+package org.example.wordle.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Constraint derivation, candidate filtering and suggestion after 0–5 submitted rows.
+ * Only {@link #suggest} depends on the scoring mode, so it alone is run per mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HintBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"0", "1", "2", "3", "4", "5"})
+        public int turns;
+
+        HintEngine engine;
+        List<String> guesses;
+        List<List<LetterFeedback>> feedback;
+
+        /** Replays the first {@code turns} non-winning probes against a fixed secret. */
+        @Setup
+        public void setup() {
+            engine = new HintEngine();
+            String secret = engine.getCorpus().get(engine.getCorpus().size() / 2);
+            guesses = new ArrayList<>();
+            feedback = new ArrayList<>();
+            for (String w : engine.getGuessPool()) {
+                if (guesses.size() == turns) break;
+                if (w.equals(secret)) continue;
+                guesses.add(w);
+                feedback.add(WordleModel.evaluate(w, secret));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Ranking {
+        @Param({"FREQUENCY", "ENTROPY"})
+        public HintEngine.Scoring scoring;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Opening {
+        HintEngine engine;
+
+        @Setup
+        public void setup() { engine = new HintEngine(); }
+    }
+
+    /**
+     * First-move ENTROPY ranking, uncached: every allow-list probe against every secret.
+     * Target is under 50 ms; compare core counts with
+     * {@code -jvmArgs -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<String> firstGuessEntropy(Opening opening) {
+        return opening.engine.suggest(List.of(), List.of(), 5, HintEngine.Scoring.ENTROPY);
+    }
+
+    @Benchmark
+    public ConstraintState constraintsFrom(Board board) {
+        return ConstraintState.of(board.guesses, board.feedback);
+    }
+
+    @Benchmark
+    public List<String> filterCandidates(Board board) {
+        return board.engine.filterCandidates(board.guesses, board.feedback);
+    }
+
+    @Benchmark
+    public List<String> suggest(Board board, Ranking ranking) {
+        return board.engine.suggest(board.guesses, board.feedback, 5, ranking.scoring);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.wordle.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Feedback evaluation, and guess submission in normal and hard mode (only the latter is run per mode). */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordleModelBenchmark {
+    private static final String SECRET = "STARE";
+    // each guess keeps every revealed letter, so the game is legal in hard mode too
+    private static final List<String> GAME = List.of("SLATE", "STATE", "STARE");
+
+    @State(Scope.Thread)
+    public static class Words {
+        List<String> words;
+        int[] packed;
+        int i;
+
+        @Setup
+        public void setup() {
+            words = new HintEngine().getCorpus();
+            packed = FeedbackMatrix.packSorted(words);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Game {
+        @Param({"false", "true"})
+        public boolean hardMode;
+
+        WordleModel model;
+
+        @Setup
+        public void setup() {
+            Dictionary dict = new OpenDictionary(new SimpleDictionary());
+            model = new WordleModel(dict, SECRET);
+            model.setHardMode(hardMode);
+        }
+    }
+
+    @Benchmark
+    public List<LetterFeedback> evaluate(Words w) {
+        int n = w.words.size();
+        int i = ++w.i;
+        return WordleModel.evaluate(w.words.get(i % n), w.words.get((i * 7) % n));
+    }
+
+    @Benchmark
+    public int evaluatePacked(Words w) {
+        int n = w.packed.length;
+        int i = ++w.i;
+        return WordleModel.evaluatePacked(w.packed[i % n], w.packed[(i * 7) % n]);
+    }
+
+    /** One full three-guess game, including the reset that starts it. */
+    @Benchmark
+    public void submitGuessGame(Game game, Blackhole bh) {
+        game.model.reset(SECRET);
+        for (String g : GAME) bh.consume(game.model.submitGuess(g));
+    }
+}
@@ -1,7 +1,10 @@
 package org.example.wordle;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
@@ -11,13 +14,26 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import org.example.wordle.control.GameControllerFX;
+import org.example.wordle.io.FeedbackMatrixIO;
+import org.example.wordle.io.HintCacheIO;
+import org.example.wordle.io.GameHistory;
+import org.example.wordle.io.GameJournal;
+import org.example.wordle.io.HistoryStatsIO;
 import org.example.wordle.io.Persistence;
 import org.example.wordle.io.StatsIO;
+import org.example.wordle.io.StatsWriter;
 import org.example.wordle.model.*;
+import org.example.wordle.util.StartupMetrics;
 import org.example.wordle.viewfx.BoardViewFX;
 import org.example.wordle.viewfx.KeyboardViewFX;
 
 import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class App extends Application {
     private WordleModel model;
@@ -25,38 +41,33 @@ public class App extends Application {
     private KeyboardViewFX keyboard;
     private GameControllerFX controller;
     private HintEngine hints;
-    private Stats stats;
+    private HintService hintService;
+    private final ExecutorService hintExecutor = HintService.newExecutor();
+    private ConcurrentStats stats;
+    private StatsWriter statsWriter;
+    private GameHistory history;       // null if the history directory can't be opened
+    private HistoryStats historyStats;
     private Stage primary;
+    private CheckMenuItem miHard, miStrict; // mirror the installed model's modes
+    private final StartupMetrics startup = new StartupMetrics();
 
-    private static final Path SAVE_PATH  =
-            Path.of(System.getProperty("user.home"), ".wordle", "save.txt");
-    private static final Path STATS_PATH =
-            Path.of(System.getProperty("user.home"), ".wordle", "stats.txt");
+    private static final Path DATA_DIR   = Path.of(System.getProperty("user.home"), ".wordle");
+    private static final Path SAVE_PATH  = DATA_DIR.resolve("save.txt");
+    private static final Path STATS_PATH = DATA_DIR.resolve("stats.txt");
+    private static final Path HINT_CACHE_PATH = DATA_DIR.resolve("hints-cache.txt");
+    private static final int HINT_CACHE_SIZE = 4096;
+    private static final int HINT_CACHE_SAVED = 1024; // hottest entries kept across runs
+    private static final Path JOURNAL_PATH = DATA_DIR.resolve("journal.bin");
+    private static final Path HISTORY_DIR = DATA_DIR.resolve("history");
+    private static final Path HISTORY_STATS_PATH = DATA_DIR.resolve("history-stats.txt");
+    private final GameJournal journal = new GameJournal(JOURNAL_PATH, 250);
 
     @Override
     public void start(Stage stage) {
-        // Dictionary: accept any A–Z guess, but pick secrets from wordlist.txt
-        Dictionary dict = new EnglishAllowListDictionary(new SimpleDictionary(), "english-words-5.txt");
-
-        this.model = new WordleModel(dict);
-        this.board = new BoardViewFX(model);
-        this.keyboard = new KeyboardViewFX();
-        this.hints = new HintEngine();
-
-        // Load stats (or start fresh)
-        try { this.stats = StatsIO.load(STATS_PATH); }
-        catch (Exception e) { this.stats = new Stats(); }
-
-        // Controller with "game finished" callback to update stats + persist
-        this.controller = new GameControllerFX(model, board, keyboard, (status, turns) -> {
-            stats.recordGame(status, turns);
-            try { StatsIO.save(STATS_PATH, stats); } catch (Exception ignore) {}
-        });
-
+        this.primary = stage;
         BorderPane root = new BorderPane();
         root.setPadding(new Insets(12));
-        root.setCenter(board);
-        root.setBottom(new HBox(keyboard));
+        root.setCenter(loadingPane());
 
         // Menu bar
         MenuBar mb = new MenuBar();
@@ -67,28 +78,166 @@ public class App extends Application {
         MenuItem miLoad  = new MenuItem("Load");
         MenuItem miHint  = new MenuItem("Smart Hint…");
         MenuItem miStats = new MenuItem("Statistics…");
-        CheckMenuItem miHard = new CheckMenuItem("Hard Mode");
+        miHard = new CheckMenuItem("Hard Mode");
+        miStrict = new CheckMenuItem("Strict Hard Mode");
+        Menu miScoring = new Menu("Hint Scoring");
 
-        game.getItems().addAll(miReset, miSave, miLoad, miHint, miStats, miHard);
+        game.getItems().addAll(miReset, miSave, miLoad, miHint, miStats, miHard, miStrict, miScoring);
         mb.getMenus().add(game);
         root.setTop(mb);
 
-        // Handlers
+        // Handlers (all of these need loaded resources, so they stay disabled until ready)
         miReset.setOnAction(e -> model.reset(null));
         miSave.setOnAction(e -> save());
         miLoad.setOnAction(e -> load());
         miHint.setOnAction(e -> showHint());
         miStats.setOnAction(e -> showStats());
-        miHard.setOnAction(e -> model.setHardMode(miHard.isSelected()));
+        miHard.setOnAction(e -> {
+            model.setHardMode(miHard.isSelected());
+            if (!miHard.isSelected()) miStrict.setSelected(false); // the model drops strict mode too
+        });
+        miStrict.setOnAction(e -> {
+            model.setStrictHardMode(miStrict.isSelected());
+            if (miStrict.isSelected()) miHard.setSelected(true);
+        });
+        game.getItems().forEach(mi -> mi.setDisable(true));
 
         Scene scene = new Scene(root, 480, 640);
-        controller.attachToScene(scene);
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override public void run() {
+                startup.markFirstFrame();
+                scene.removePostLayoutPulseListener(this);
+            }
+        });
         stage.setTitle("Wordle — JavaFX MVC Starter");
         stage.setScene(scene);
         stage.setResizable(false);
         stage.show();
 
-        this.primary = stage;
+        // Load word lists, hint engine and stats in parallel off the FX thread
+        DictionaryRegistry registry = DictionaryRegistry.shared();
+        ExecutorService loaders = Executors.newFixedThreadPool(3, r -> {
+            Thread t = new Thread(r, "wordle-startup");
+            t.setDaemon(true);
+            return t;
+        });
+        // Dictionary: accept allow-list guesses, but pick secrets from wordlist.txt (each list is loaded once)
+        CompletableFuture<Dictionary> dictF = CompletableFuture.supplyAsync(registry::allowList, loaders);
+        CompletableFuture<HintEngine> hintsF = CompletableFuture.supplyAsync(() -> {
+            HintEngine engine = registry.hintEngine();
+            engine.setFeedbackMatrix(FeedbackMatrixIO.loadOrCompute(DATA_DIR, engine.getGuessPool(), engine.getCorpus()));
+            HintCache cache = new HintCache(HINT_CACHE_SIZE);
+            try { HintCacheIO.load(HINT_CACHE_PATH, cache, engine.fingerprint()); } catch (Exception ignore) {}
+            engine.setCache(cache);
+            return engine;
+        }, loaders);
+        // Load stats (or start fresh)
+        CompletableFuture<Stats> statsF = CompletableFuture.supplyAsync(() -> {
+            try { return StatsIO.load(STATS_PATH); }
+            catch (Exception e) { return new Stats(); }
+        }, loaders);
+
+        // Game history, and its aggregates as saved at the last exit plus any games recorded after that
+        CompletableFuture<GameHistory> historyF = CompletableFuture.supplyAsync(() -> {
+            try { return GameHistory.open(HISTORY_DIR); }
+            catch (Exception e) { e.printStackTrace(); return null; }
+        }, loaders);
+        CompletableFuture<HistoryStats> historyStatsF = historyF.thenApplyAsync(h -> {
+            ZoneId zone = ZoneId.systemDefault();
+            if (h == null) return new HistoryStats(zone);
+            try { return HistoryStatsIO.loadOrRebuild(HISTORY_STATS_PATH, h, zone); }
+            catch (Exception e) { e.printStackTrace(); return new HistoryStats(zone); }
+        }, loaders);
+
+        CompletableFuture.allOf(dictF, hintsF, statsF, historyStatsF).whenComplete((v, err) -> {
+            loaders.shutdown();
+            Platform.runLater(() -> {
+                if (err != null) {
+                    Throwable cause = err.getCause() != null ? err.getCause() : err;
+                    cause.printStackTrace();
+                    root.setCenter(new Label("Could not load word lists: " + cause.getMessage()));
+                    return;
+                }
+                this.stats = new ConcurrentStats(statsF.join());
+                this.statsWriter = new StatsWriter(STATS_PATH, stats::snapshot, 500);
+                this.history = historyF.join();
+                this.historyStats = historyStatsF.join();
+                this.hints = hintsF.join();
+                this.model = resumeOrNew(dictF.join());
+                installGame(model);
+                populateScoringMenu(miScoring);
+                game.getItems().forEach(mi -> mi.setDisable(false));
+                startup.markInteractive();
+            });
+        });
+    }
+
+    /** The game left in progress by the last run, if the journal has one; otherwise a fresh game. */
+    private WordleModel resumeOrNew(Dictionary dictionary) {
+        try {
+            GameState state = GameJournal.recover(JOURNAL_PATH);
+            if (state != null && state.status() == GameStatus.IN_PROGRESS) return WordleModel.hydrate(dictionary, state);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+        return new WordleModel(dictionary);
+    }
+
+    private Node loadingPane() {
+        VBox box = new VBox(12, new ProgressIndicator(), new Label("Loading word lists…"));
+        box.setAlignment(Pos.CENTER);
+        return box;
+    }
+
+    private void populateScoringMenu(Menu miScoring) {
+        ToggleGroup scoringGroup = new ToggleGroup();
+        for (HintEngine.Scoring mode : HintEngine.Scoring.values()) {
+            RadioMenuItem item = new RadioMenuItem(switch (mode) {
+                case FREQUENCY -> "Letter Frequency";
+                case ENTROPY -> "Expected Information";
+                case TREE -> "Solved Decision Tree";
+            });
+            item.setToggleGroup(scoringGroup);
+            item.setSelected(mode == hints.getScoring());
+            item.setOnAction(e -> hints.setScoring(mode));
+            miScoring.getItems().add(item);
+        }
+    }
+
+    /** Builds views, controller and hint session for {@code newModel} and swaps them into the window. */
+    private void installGame(WordleModel newModel) {
+        var scene = primary.getScene();
+        BorderPane root = (BorderPane) scene.getRoot();
+        BoardViewFX newBoard = new BoardViewFX(newModel);
+        KeyboardViewFX newKeyboard = new KeyboardViewFX(newModel);
+        // Controller with "game finished" callback to update stats + persist
+        GameControllerFX newController = new GameControllerFX(newModel, newBoard, newKeyboard, (status, turns) -> {
+            stats.recordGame(status, turns);
+            statsWriter.changed(); // saved in the background
+            recordHistory(new GameRecord(System.currentTimeMillis(), PackedWord.pack(newModel.getSecretDebug()),
+                    turns, status, newModel.isHardMode()));
+        });
+
+        root.setCenter(newBoard);
+        root.setBottom(new HBox(newKeyboard));
+        if (controller != null) controller.detachFromScene(scene);
+        newController.attachToScene(scene);
+
+        if (hintService != null) hintService.close();
+        this.hintService = new HintService(hints, newModel, hintExecutor, 5, Platform::runLater);
+        miHard.setSelected(newModel.isHardMode()); // a resumed game may be in hard or strict mode
+        miStrict.setSelected(newModel.isStrictHardMode());
+        try { journal.attach(newModel); } catch (Exception ex) { ex.printStackTrace(); }
+        this.model = newModel;
+        this.board = newBoard;
+        this.keyboard = newKeyboard;
+        this.controller = newController;
+    }
+
+    private void recordHistory(GameRecord game) {
+        historyStats.record(game);
+        if (history == null) return;
+        try { history.append(game); } catch (Exception ex) { ex.printStackTrace(); }
     }
 
     private void save() {
@@ -103,63 +252,69 @@ public class App extends Application {
         try {
             var loaded = Persistence.load(SAVE_PATH);
 
-            // Keep OpenDictionary behavior on load as well
-            Dictionary dict = new EnglishAllowListDictionary(new SimpleDictionary(), "/english-words-5.txt");
-            WordleModel newModel = new WordleModel(dict, loaded.secret);
-            for (String g : loaded.guesses) newModel.submitGuess(g);
+            // Same shared allow-list as a fresh game; saved guesses are restored, not replayed
+            WordleModel newModel = WordleModel.hydrate(DictionaryRegistry.shared().allowList(), loaded.toState());
 
             // Swap into UI
-            var scene = primary.getScene();
-            BorderPane root = (BorderPane) scene.getRoot();
-            BoardViewFX newBoard = new BoardViewFX(newModel);
-            KeyboardViewFX newKeyboard = new KeyboardViewFX();
-            GameControllerFX newController = new GameControllerFX(
-                    newModel, newBoard, newKeyboard,
-                    (status, turns) -> {
-                        stats.recordGame(status, turns);
-                        try { StatsIO.save(STATS_PATH, stats); } catch (Exception ignore) {}
-                    });
-
-            root.setCenter(newBoard);
-            root.setBottom(new HBox(newKeyboard));
-            newController.attachToScene(scene);
-
-            this.model = newModel;
-            this.board = newBoard;
-            this.keyboard = newKeyboard;
-            this.controller = newController;
+            installGame(newModel);
         } catch (Exception ex) {
             ex.printStackTrace();
         }
     }
 
     private void showHint() {
-        var suggestions = hints.suggest(model.getGuesses(), model.getFeedback(), 5);
-        String body = suggestions.isEmpty()
-                ? "No suggestions (constraints too tight)."
-                : String.join(", ", suggestions);
-        var a = new Alert(Alert.AlertType.INFORMATION, body);
-        a.setHeaderText("Smart Hint (top candidates)");
-        a.setTitle("Hint");
-        a.showAndWait();
+        // Computed off the FX thread; a guess submitted meanwhile cancels this request
+        hintService.request().whenComplete((suggestions, err) -> Platform.runLater(() -> {
+            Throwable cause = (err instanceof CompletionException && err.getCause() != null) ? err.getCause() : err;
+            if (cause instanceof CancellationException) return; // superseded by a newer position
+            String body;
+            if (cause != null) body = "Hints unavailable: " + cause.getMessage();
+            else if (suggestions.isEmpty()) body = "No suggestions (constraints too tight).";
+            else body = String.join(", ", suggestions);
+            var a = new Alert(Alert.AlertType.INFORMATION, body);
+            a.setHeaderText("Smart Hint (top candidates)");
+            a.setTitle("Hint");
+            a.showAndWait();
+        }));
     }
 
     private void showStats() {
         VBox box = new VBox(8);
         box.setPadding(new Insets(12));
 
-        int games = stats.getGames();
-        int wins = stats.getWins();
-        int losses = stats.getLosses();
-        double winPct = stats.getWinPercentage();
-        int[] dist = stats.getGuessDistribution();
+        Stats totals = stats.snapshot();
+        int games = totals.getGames();
+        int wins = totals.getWins();
+        int losses = totals.getLosses();
+        double winPct = totals.getWinPercentage();
+        int[] dist = totals.getGuessDistribution();
 
         Label header = new Label("Statistics");
         header.setStyle("-fx-font-size: 18; -fx-font-weight: bold;");
         Label line1 = new Label("Games Played: " + games);
         Label line2 = new Label(String.format("Win %%: %.1f%%", winPct));
         Label line3 = new Label("Wins: " + wins + "    Losses: " + losses);
-        box.getChildren().addAll(header, line1, line2, line3, new Separator());
+        box.getChildren().addAll(header, line1, line2, line3);
+
+        // From the game history's running aggregates: no scan, however long the history
+        HistoryStats h = historyStats;
+        if (h != null && h.count() > 0) {
+            Label streaks = new Label("Current Streak: " + h.currentStreak() + "    Max Streak: " + h.maxStreak());
+            Label guesses = new Label("Guesses to win: median " + h.all().percentile(0.5) + ", 90th percentile " + h.all().percentile(0.9));
+            Label modes = new Label(String.format("Normal: %d games, %.1f%% won    Hard: %d games, %.1f%% won",
+                    h.normalMode().games(), h.normalMode().solveRate() * 100, h.hardMode().games(), h.hardMode().solveRate() * 100));
+            int best = 0;
+            for (int hr = 1; hr < 24; hr++) if (h.hour(hr).games() > h.hour(best).games()) best = hr;
+            Label hours = new Label(String.format("Most played: %02d:00–%02d:00 (%.1f%% won)", best, (best + 1) % 24, h.hour(best).solveRate() * 100));
+            box.getChildren().addAll(new Separator(), streaks, guesses, modes, hours);
+            var hardest = h.hardestWords(3, 2);
+            if (!hardest.isEmpty()) {
+                StringBuilder sb = new StringBuilder("Hardest words:");
+                for (var w : hardest) sb.append(String.format("  %s %d/%d", w.word(), w.tally().wins(), w.tally().games()));
+                box.getChildren().add(new Label(sb.toString()));
+            }
+        }
+        box.getChildren().add(new Separator());
 
         int max = 1; for (int v : dist) max = Math.max(max, v);
         int barMaxWidth = 280;
@@ -187,5 +342,28 @@ public class App extends Application {
         st.show();
     }
 
+    @Override
+    public void stop() {
+        hintExecutor.shutdownNow();
+        try { journal.close(); } catch (Exception ignore) {}
+        if (statsWriter != null) {
+            try { statsWriter.close(); } catch (Exception ex) { ex.printStackTrace(); }
+        }
+        if (historyStats != null) {
+            try { HistoryStatsIO.save(HISTORY_STATS_PATH, historyStats); } catch (Exception ex) { ex.printStackTrace(); }
+        }
+        if (history != null) {
+            try { history.close(); } catch (Exception ex) { ex.printStackTrace(); }
+        }
+        HintEngine engine = hints;
+        if (engine != null && engine.getCache() != null) {
+            try { HintCacheIO.save(HINT_CACHE_PATH, engine.getCache(), engine.fingerprint(), HINT_CACHE_SAVED); }
+            catch (Exception ignore) {}
+        }
+    }
+
+    /** Time-to-first-frame and time-to-interactive of this launch, for tooling. */
+    public StartupMetrics getStartupMetrics() { return startup; }
+
     public static void main(String[] args) { launch(args); }
 }
@@ -1,5 +1,6 @@
 package org.example.wordle.control;
 
+import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
@@ -19,7 +20,7 @@ public class GameControllerFX {
     private final WordleModel model;
     private final BoardViewFX board;
     private final KeyboardViewFX keyboard;
-    private final StringBuilder current = new StringBuilder();
+    private final EventHandler<KeyEvent> keyFilter = this::handleKey;
 
     // Notifies when a game ends: (status, turnsTaken)
     private final BiConsumer<GameStatus, Integer> onGameFinished;
@@ -40,7 +41,12 @@ public class GameControllerFX {
     }
 
     public void attachToScene(Scene scene) {
-        scene.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKey);
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, keyFilter);
+    }
+
+    /** Stops routing keys to this controller, e.g. when a loaded game replaces it. */
+    public void detachFromScene(Scene scene) {
+        scene.removeEventFilter(KeyEvent.KEY_PRESSED, keyFilter);
     }
 
     private void handleButton(String label) {
@@ -65,30 +71,25 @@ public class GameControllerFX {
 
     private void type(char c) {
         if (model.getStatus() != GameStatus.IN_PROGRESS) return;
-        if (current.length() < WordleModel.WORD_LENGTH) {
-            current.append(Character.toUpperCase(c));
-            board.setPreview(current.toString());
-        }
+        String current = model.getPreview(); // the model owns the typed row, so a reset clears it too
+        if (current.length() < WordleModel.WORD_LENGTH) model.setPreview(current + Character.toUpperCase(c));
     }
 
     private void backspace() {
-        if (current.length() > 0) {
-            current.deleteCharAt(current.length() - 1);
-            board.setPreview(current.toString());
-        }
+        String current = model.getPreview();
+        if (!current.isEmpty()) model.setPreview(current.substring(0, current.length() - 1));
     }
 
     private void enter() {
         if (model.getStatus() != GameStatus.IN_PROGRESS) return;
+        String current = model.getPreview();
         if (current.length() != WordleModel.WORD_LENGTH) {
             toast("Not enough letters");
             return;
         }
         try {
-            model.submitGuess(current.toString());
-            keyboard.updateColors(model.getKeyboard());
-            current.setLength(0);
-            board.setPreview("");
+            model.submitGuess(current); // board and keyboard repaint from the model's events
+            model.setPreview("");
 
             if (model.getStatus() == GameStatus.WON || model.getStatus() == GameStatus.LOST) {
                 if (onGameFinished != null) onGameFinished.accept(model.getStatus(), model.turnsTaken());
@@ -113,8 +114,6 @@ public class GameControllerFX {
         Optional<ButtonType> res = a.showAndWait();
         if (res.isPresent() && res.get() == playAgain) {
             model.reset(null);                 // picks a NEW random secret via dictionary
-            keyboard.updateColors(model.getKeyboard());
-            board.setPreview("");
         }
     }
 
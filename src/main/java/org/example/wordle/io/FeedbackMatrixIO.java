@@ -0,0 +1,85 @@
+package org.example.wordle.io;
+
+import org.example.wordle.model.FeedbackMatrix;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/** Binary cache for {@link FeedbackMatrix}, one file per pair of word lists.
+ * Format (big-endian):
+ * int MAGIC, int VERSION, long fingerprint, int guessCount, int secretCount,
+ * guessCount packed ints, secretCount packed ints, then guessCount*secretCount pattern bytes.
+ * The pattern section is memory-mapped on load, so it costs no heap.
+ */
+public class FeedbackMatrixIO {
+    private static final int MAGIC = 0x5746424D; // "WFBM"
+    private static final int VERSION = 1;
+
+    /** Maps the cached matrix for these word lists from {@code dir}, computing and caching it if absent. */
+    public static FeedbackMatrix loadOrCompute(Path dir, Collection<String> guesses, Collection<String> secrets) {
+        int[] g = FeedbackMatrix.packSorted(guesses);
+        int[] s = FeedbackMatrix.packSorted(secrets);
+        Path file = cacheFile(dir, FeedbackMatrix.fingerprint(g, s));
+        try {
+            FeedbackMatrix cached = load(file, g, s);
+            if (cached != null) return cached;
+        } catch (IOException ignored) { /* unreadable cache: rebuild below */ }
+
+        FeedbackMatrix m = FeedbackMatrix.compute(guesses, secrets);
+        try { save(file, m); } catch (IOException ignored) { /* cache is optional */ }
+        return m;
+    }
+
+    public static Path cacheFile(Path dir, long fingerprint) {
+        return dir.resolve(String.format("feedback-%016x.bin", fingerprint));
+    }
+
+    /** Returns the mapped matrix, or null if the file is missing or was built for other word lists. */
+    public static FeedbackMatrix load(Path file, int[] sortedGuesses, int[] sortedSecrets) throws IOException {
+        if (!Files.exists(file)) return null;
+        long headerBytes = 24L + 4L * (sortedGuesses.length + sortedSecrets.length);
+        long dataBytes = (long) sortedGuesses.length * sortedSecrets.length;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() != headerBytes + dataBytes) return null;
+            ByteBuffer head = ch.map(FileChannel.MapMode.READ_ONLY, 0, headerBytes);
+            if (head.getInt() != MAGIC || head.getInt() != VERSION) return null;
+            if (head.getLong() != FeedbackMatrix.fingerprint(sortedGuesses, sortedSecrets)) return null;
+            if (head.getInt() != sortedGuesses.length || head.getInt() != sortedSecrets.length) return null;
+            for (int p : sortedGuesses) if (head.getInt() != p) return null;
+            for (int p : sortedSecrets) if (head.getInt() != p) return null;
+            ByteBuffer data = ch.map(FileChannel.MapMode.READ_ONLY, headerBytes, dataBytes);
+            return new FeedbackMatrix(sortedGuesses, sortedSecrets, data);
+        }
+    }
+
+    /** Writes to a temp file and renames it into place so readers never see a partial cache. */
+    public static void save(Path file, FeedbackMatrix m) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(m.fingerprint());
+            out.writeInt(m.guessCount());
+            out.writeInt(m.secretCount());
+            for (int r = 0; r < m.guessCount(); r++) out.writeInt(m.guessAt(r));
+            for (int c = 0; c < m.secretCount(); c++) out.writeInt(m.secretAt(c));
+            ByteBuffer data = m.patterns();
+            byte[] chunk = new byte[8192];
+            while (data.hasRemaining()) {
+                int n = Math.min(chunk.length, data.remaining());
+                data.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
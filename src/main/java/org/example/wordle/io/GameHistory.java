@@ -0,0 +1,99 @@
+package org.example.wordle.io;
+
+import org.example.wordle.model.GameRecord;
+import org.example.wordle.model.GameStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/** Append-only history of finished games, one file per column in a directory.
+ * Columns (big-endian, no headers), row i at offset i * width:
+ * time.col   long  end time, epoch millis
+ * secret.col int   packed secret
+ * turns.col  byte  guesses used
+ * flags.col  byte  status ordinal (bits 0..1), hard mode (bit 2)
+ * A scan that needs one column reads only that file. A crash between column writes
+ * leaves the columns uneven; opening trims them back to the last complete row.
+ */
+public class GameHistory implements Closeable {
+    private static final GameStatus[] STATUSES = GameStatus.values();
+    private static final int HARD = 4;
+    private static final int CHUNK = 1 << 20; // rows mapped per step of a scan
+
+    private final FileChannel time, secret, turns, flags;
+    private final ByteBuffer row = ByteBuffer.allocate(8);
+    private long size;
+
+    private GameHistory(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        time = column(dir.resolve("time.col"));
+        secret = column(dir.resolve("secret.col"));
+        turns = column(dir.resolve("turns.col"));
+        flags = column(dir.resolve("flags.col"));
+        size = Math.min(Math.min(time.size() / 8, secret.size() / 4), Math.min(turns.size(), flags.size()));
+        time.truncate(size * 8);
+        secret.truncate(size * 4);
+        turns.truncate(size);
+        flags.truncate(size);
+    }
+
+    public static GameHistory open(Path dir) throws IOException {
+        return new GameHistory(dir);
+    }
+
+    /** Number of games recorded. */
+    public synchronized long size() { return size; }
+
+    public synchronized void append(GameRecord g) throws IOException {
+        write(time, row.clear().putLong(g.timeMillis()));
+        write(secret, row.clear().putInt(g.secret()));
+        write(turns, row.clear().put((byte) g.turns()));
+        write(flags, row.clear().put((byte) (g.status().ordinal() | (g.hardMode() ? HARD : 0))));
+        size++;
+    }
+
+    /** Feeds rows {@code from} (inclusive) to the current end, in order, to {@code sink}. */
+    public synchronized void scan(long from, Consumer<GameRecord> sink) throws IOException {
+        for (long start = Math.max(0, from); start < size; start += CHUNK) {
+            int n = (int) Math.min(CHUNK, size - start);
+            MappedByteBuffer t = map(time, start * 8, n * 8L), s = map(secret, start * 4, n * 4L);
+            MappedByteBuffer u = map(turns, start, n), f = map(flags, start, n);
+            for (int i = 0; i < n; i++) {
+                int fl = f.get(i);
+                sink.accept(new GameRecord(t.getLong(i * 8), s.getInt(i * 4), u.get(i), STATUSES[fl & 3], (fl & HARD) != 0));
+            }
+        }
+    }
+
+    /** Forces appended rows to disk. */
+    public synchronized void force() throws IOException {
+        for (FileChannel ch : new FileChannel[]{time, secret, turns, flags}) ch.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        force();
+        for (FileChannel ch : new FileChannel[]{time, secret, turns, flags}) ch.close();
+    }
+
+    private static FileChannel column(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private void write(FileChannel ch, ByteBuffer buf) throws IOException {
+        buf.flip();
+        long at = size * buf.remaining(); // the row's slot in this column
+        while (buf.hasRemaining()) at += ch.write(buf, at);
+    }
+
+    private static MappedByteBuffer map(FileChannel ch, long at, long bytes) throws IOException {
+        return ch.map(FileChannel.MapMode.READ_ONLY, at, bytes);
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.wordle.io;
+
+import org.example.wordle.model.BoardSnapshot;
+import org.example.wordle.model.GameState;
+import org.example.wordle.model.PackedWord;
+import org.example.wordle.model.WordleModel;
+import org.example.wordle.util.ModelEvent;
+import org.example.wordle.util.ModelListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/** Append-only auto-save of the current game: one fixed-size record per accepted guess.
+ * Format (big-endian): int MAGIC, int VERSION, then 12-byte records
+ * byte type (START or GUESS), byte flags (hard, strict), short 0, int packed word, int CRC32 of the first 8 bytes.
+ * A START record holds the secret and begins a game; each new game or mode change rewrites
+ * the file (temp file + atomic rename) so it never holds more than one game. Records reach the
+ * OS on every guess; fsync is batched on a background thread. A torn or corrupt tail is
+ * ignored on recovery.
+ */
+public class GameJournal implements ModelListener, Closeable {
+    private static final int MAGIC = 0x574A4E4C; // "WJNL"
+    private static final int VERSION = 1;
+    private static final int HEADER = 8, RECORD = 12;
+    private static final byte START = 1, GUESS = 2;
+    private static final int HARD = 1, STRICT = 2;
+
+    private final Path file;
+    private final ScheduledExecutorService syncer;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD);
+    private FileChannel channel;
+    private WordleModel model;
+    private boolean dirty;
+
+    public GameJournal(Path file, long syncIntervalMillis) {
+        this.file = file;
+        this.syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wordle-journal");
+            t.setDaemon(true);
+            return t;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Journals {@code newModel} from now on, starting the file over with its current state. */
+    public synchronized void attach(WordleModel newModel) throws IOException {
+        if (model != null) model.removeListener(this);
+        model = newModel;
+        compact();
+        newModel.addListener(this);
+    }
+
+    @Override public void onModelChanged() { }
+
+    @Override
+    public synchronized void onModelEvent(ModelEvent event) {
+        try {
+            switch (event.type()) {
+                case ROW_SUBMITTED -> {
+                    BoardSnapshot board = model.snapshot();
+                    append(GUESS, flags(board.hardMode(), model.isStrictHardMode()), PackedWord.pack(board.guesses().get(event.row())));
+                }
+                case RESET, MODE_CHANGED -> compact(); // the new flags go in the START record
+                default -> { }
+            }
+        } catch (IOException e) {
+            e.printStackTrace(); // auto-save is best effort; the game goes on
+        }
+    }
+
+    /** Forces journaled records to disk if any were written since the last sync. */
+    public synchronized void sync() {
+        if (!dirty || channel == null) return;
+        try {
+            channel.force(false);
+            dirty = false;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        syncer.shutdownNow();
+        if (model != null) model.removeListener(this);
+        model = null;
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * The game recorded in {@code file}, rebuilt from its records without replaying
+     * validation; null if there is no usable journal.
+     */
+    public static GameState recover(Path file) throws IOException {
+        if (!Files.exists(file)) return null;
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buf.remaining() < HEADER || buf.getInt() != MAGIC || buf.getInt() != VERSION) return null;
+        int secret = PackedWord.INVALID, count = 0, flags = 0;
+        int[] guesses = new int[WordleModel.MAX_TURNS];
+        CRC32 crc = new CRC32();
+        while (buf.remaining() >= RECORD) {
+            int at = buf.position();
+            crc.reset();
+            crc.update(buf.array(), at, RECORD - 4);
+            byte type = buf.get();
+            int f = buf.get();
+            buf.getShort();
+            int word = buf.getInt();
+            if (buf.getInt() != (int) crc.getValue()) break; // torn or corrupt tail
+            if (type == START) { secret = word; count = 0; flags = f; }
+            else if (type == GUESS && secret != PackedWord.INVALID && count < guesses.length) { guesses[count++] = word; flags = f; }
+            else break;
+        }
+        if (secret == PackedWord.INVALID) return null;
+        return GameState.replayed(secret, guesses, count, (flags & HARD) != 0, (flags & STRICT) != 0);
+    }
+
+    // rewrites the file as START + one GUESS per row of the attached model, atomically
+    private void compact() throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        if (channel != null) { channel.close(); channel = null; }
+        BoardSnapshot board = model.snapshot();
+        int flags = flags(board.hardMode(), model.isStrictHardMode());
+        ByteBuffer out = ByteBuffer.allocate(HEADER + RECORD * (1 + board.turns()));
+        out.putInt(MAGIC).putInt(VERSION);
+        putRecord(out, START, flags, PackedWord.pack(model.getSecretDebug()));
+        for (String g : board.guesses()) putRecord(out, GUESS, flags, PackedWord.pack(g));
+        out.flip();
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) ch.write(out);
+            ch.force(false);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        dirty = false;
+    }
+
+    private void append(byte type, int flags, int word) throws IOException {
+        if (channel == null) return;
+        record.clear();
+        putRecord(record, type, flags, word);
+        record.flip();
+        while (record.hasRemaining()) channel.write(record);
+        dirty = true;
+    }
+
+    private static void putRecord(ByteBuffer out, byte type, int flags, int word) {
+        int at = out.position();
+        out.put(type).put((byte) flags).putShort((short) 0).putInt(word);
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), at, RECORD - 4);
+        out.putInt((int) crc.getValue());
+    }
+
+    private static int flags(boolean hard, boolean strict) {
+        return (hard ? HARD : 0) | (strict ? STRICT : 0);
+    }
+}
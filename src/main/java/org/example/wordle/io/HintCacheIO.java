@@ -0,0 +1,48 @@
+package org.example.wordle.io;
+
+import org.example.wordle.model.HintCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HintCacheIO {
+    private static final String HEADER = "WORDLE-HINTS 1";
+
+    /** Text format:
+     *  line1: WORDLE-HINTS 1 &lt;word-list fingerprint in hex&gt;
+     *  then one entry per line, most recently used first: key TAB word,word,...
+     */
+    public static void save(Path file, HintCache cache, long fingerprint, int maxEntries) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER + " " + Long.toHexString(fingerprint));
+        for (var e : cache.hottest(maxEntries).entrySet()) lines.add(e.getKey() + "\t" + String.join(",", e.getValue()));
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tmp, lines, StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Warms {@code cache} from {@code file}; returns the entry count, or 0 if absent or built for other word lists. */
+    public static int load(Path file, HintCache cache, long fingerprint) throws IOException {
+        if (!Files.exists(file)) return 0;
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(HEADER + " " + Long.toHexString(fingerprint))) return 0;
+        Map<String, List<String>> saved = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            int tab = line.indexOf('\t');
+            if (tab <= 0) continue;
+            String words = line.substring(tab + 1);
+            saved.put(line.substring(0, tab), words.isEmpty() ? List.of() : Arrays.asList(words.split(",")));
+        }
+        cache.warm(saved);
+        return saved.size();
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.wordle.io;
+
+import org.example.wordle.model.HistoryStats;
+import org.example.wordle.model.PackedWord;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HistoryStatsIO {
+    private static final String HEADER = "WORDLE-HISTORY-STATS 1";
+    private static final int TALLY = 8; // games, wins, d1..d6
+
+    /** Text format:
+     *  line1: WORDLE-HISTORY-STATS 1 &lt;time zone of the hour buckets&gt;
+     *  line2: games-covered currentStreak maxStreak
+     *  line3..5: all, normal-mode and hard-mode tallies (games wins d1..d6)
+     *  next 24 lines: tally per hour of day
+     *  then one line per secret: WORD games wins d1..d6
+     */
+    public static void save(Path file, HistoryStats s) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        List<String> lines = new ArrayList<>(30 + s.distinctWords());
+        lines.add(HEADER + " " + s.zone().getId());
+        lines.add(s.count() + " " + s.currentStreak() + " " + s.maxStreak());
+        lines.add(join(s.all().values()));
+        lines.add(join(s.normalMode().values()));
+        lines.add(join(s.hardMode().values()));
+        for (int h = 0; h < 24; h++) lines.add(join(s.hour(h).values()));
+        s.words().forEach((secret, t) -> lines.add(PackedWord.unpack(secret) + " " + join(t.values())));
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tmp, lines, StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Saved aggregates, or null if the file is absent, unreadable or bucketed in another time zone. */
+    public static HistoryStats load(Path file, ZoneId zone) throws IOException {
+        if (!Files.exists(file)) return null;
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.size() < 29 || !lines.get(0).equals(HEADER + " " + zone.getId())) return null;
+        try {
+            HistoryStats s = new HistoryStats(zone);
+            String[] head = lines.get(1).trim().split("\\s+");
+            s.restore(Long.parseLong(head[0]), Integer.parseInt(head[1]), Integer.parseInt(head[2]));
+            s.all().load(ints(lines.get(2), 0));
+            s.normalMode().load(ints(lines.get(3), 0));
+            s.hardMode().load(ints(lines.get(4), 0));
+            for (int h = 0; h < 24; h++) s.hour(h).load(ints(lines.get(5 + h), 0));
+            for (String line : lines.subList(29, lines.size())) {
+                int secret = PackedWord.pack(line.substring(0, Math.min(line.length(), 5)));
+                if (secret == PackedWord.INVALID) return null;
+                s.wordTally(secret).load(ints(line, 1));
+            }
+            return s;
+        } catch (RuntimeException e) { // NumberFormatException, short lines
+            return null;
+        }
+    }
+
+    /**
+     * Aggregates current with {@code history}: the saved ones plus any games appended since they
+     * were saved (e.g. after a crash), or a full scan if there is no usable snapshot.
+     */
+    public static HistoryStats loadOrRebuild(Path file, GameHistory history, ZoneId zone) throws IOException {
+        HistoryStats s = null;
+        try { s = load(file, zone); } catch (IOException ignored) { /* rebuild below */ }
+        if (s == null || s.count() > history.size()) s = new HistoryStats(zone);
+        history.scan(s.count(), s::record);
+        return s;
+    }
+
+    private static String join(int[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (int v : values) sb.append(sb.length() == 0 ? "" : " ").append(v);
+        return sb.toString();
+    }
+
+    private static int[] ints(String line, int skip) {
+        String[] parts = line.trim().split("\\s+");
+        if (parts.length != skip + TALLY) throw new IllegalArgumentException("Bad tally: " + line);
+        int[] v = new int[TALLY];
+        for (int i = 0; i < TALLY; i++) v[i] = Integer.parseInt(parts[skip + i]);
+        return v;
+    }
+}
@@ -1,6 +1,9 @@
 package org.example.wordle.io;
 
+import org.example.wordle.model.GameState;
 import org.example.wordle.model.GameStatus;
+import org.example.wordle.model.PackedWord;
+import org.example.wordle.model.WordleModel;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -27,6 +30,12 @@ public class Persistence {
         Files.write(file, out, StandardCharsets.UTF_8);
     }
 
+    public static void save(Path file, GameState state) throws IOException {
+        List<String> guesses = new ArrayList<>();
+        for (int i = 0; i < state.guessCount(); i++) guesses.add(PackedWord.unpack(state.guess(i)));
+        save(file, PackedWord.unpack(state.secret()), guesses, state.status());
+    }
+
     public static Loaded load(Path file) throws IOException {
         List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
         if (lines.size() < 3) throw new IOException("Corrupt save file: too few lines");
@@ -45,5 +54,18 @@ public class Persistence {
         public final String secret;
         public final List<String> guesses;
         public Loaded(String secret, List<String> guesses) { this.secret = secret; this.guesses = guesses; }
+
+        /** The saved game as a state to restore directly; the guesses were accepted when played. */
+        public GameState toState() throws IOException {
+            int packedSecret = PackedWord.pack(secret);
+            if (packedSecret == PackedWord.INVALID) throw new IOException("Corrupt save file: bad secret");
+            if (guesses.size() > WordleModel.MAX_TURNS) throw new IOException("Corrupt save file: too many guesses");
+            int[] packed = new int[guesses.size()];
+            for (int i = 0; i < packed.length; i++) {
+                packed[i] = PackedWord.pack(guesses.get(i));
+                if (packed[i] == PackedWord.INVALID) throw new IOException("Corrupt save file: bad guess " + guesses.get(i));
+            }
+            return GameState.replayed(packedSecret, packed, packed.length, false, false);
+        }
     }
 }
\ No newline at end of file
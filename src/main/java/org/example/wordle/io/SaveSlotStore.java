@@ -0,0 +1,222 @@
+package org.example.wordle.io;
+
+import org.example.wordle.model.GameState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/** Many saved games, one per slot id, in a single memory-mapped file.
+ * Format (big-endian): int MAGIC, int VERSION, int capacity, int 0, then capacity 40-byte records
+ * long slot, long w0, long w1, long w2 (the {@link GameState}), int used, int CRC32 of the first 36 bytes.
+ * Freed records are reused before the file grows; the file doubles when full.
+ * Lookups share a read lock, so any number of readers run alongside each other; puts and
+ * removes take the write lock. Records whose checksum fails (a torn write) are treated as free.
+ */
+public class SaveSlotStore implements Closeable {
+    private static final int MAGIC = 0x57534C54; // "WSLT"
+    private static final int VERSION = 1;
+    private static final int HEADER = 16, RECORD = 40, CRC_AT = 36;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER) / RECORD;
+
+    private final FileChannel channel;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> index = new HashMap<>(); // slot id -> record
+    private int[] free = new int[16];                          // stack of free records
+    private int freeCount;
+    private int capacity;
+    private MappedByteBuffer map;
+
+    private SaveSlotStore(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /** Opens {@code file}, creating it with room for {@code initialCapacity} games if absent. */
+    public static SaveSlotStore open(Path file, int initialCapacity) throws IOException {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) throw new IllegalArgumentException("Bad capacity: " + initialCapacity);
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        SaveSlotStore store = new SaveSlotStore(ch);
+        try {
+            if (ch.size() == 0) {
+                store.remap(initialCapacity);
+                for (int r = initialCapacity - 1; r >= 0; r--) store.pushFree(r);
+                store.map.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, initialCapacity);
+            } else {
+                store.scan(file);
+            }
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /** The game saved in {@code slot}, or null. */
+    public GameState get(long slot) {
+        lock.readLock().lock();
+        try {
+            Integer r = index.get(slot);
+            if (r == null) return null;
+            int at = offset(r);
+            return new GameState(map.getLong(at + 8), map.getLong(at + 16), map.getLong(at + 24));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Saves {@code state} in {@code slot}, replacing what was there. */
+    public void put(long slot, GameState state) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Integer r = index.get(slot);
+            if (r == null) {
+                if (freeCount == 0) grow();
+                r = free[--freeCount];
+                index.put(slot, r);
+            }
+            int at = offset(r);
+            map.putLong(at, slot).putLong(at + 8, state.w0()).putLong(at + 16, state.w1()).putLong(at + 24, state.w2());
+            map.putInt(at + 32, 1);
+            map.putInt(at + CRC_AT, crc(at));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Frees {@code slot}; returns false if it held no game. */
+    public boolean remove(long slot) {
+        lock.writeLock().lock();
+        try {
+            Integer r = index.remove(slot);
+            if (r == null) return false;
+            map.putInt(offset(r) + 32, 0);
+            pushFree(r);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try { return index.size(); }
+        finally { lock.readLock().unlock(); }
+    }
+
+    public int capacity() {
+        lock.readLock().lock();
+        try { return capacity; }
+        finally { lock.readLock().unlock(); }
+    }
+
+    /** Flushes written records to disk. */
+    public void force() {
+        lock.writeLock().lock();
+        try { map.force(); }
+        finally { lock.writeLock().unlock(); }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            map.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Imports every {@code <slot>.txt} file in {@code dir} (the {@link Persistence} format); returns how many. */
+    public int importText(Path dir) throws IOException {
+        int n = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.txt")) {
+            for (Path f : files) {
+                String name = f.getFileName().toString();
+                long slot;
+                try { slot = Long.parseLong(name.substring(0, name.length() - 4)); }
+                catch (NumberFormatException e) { continue; }
+                put(slot, Persistence.load(f).toState());
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /** Writes every saved game to {@code dir} as {@code <slot>.txt} in the {@link Persistence} format; returns how many. */
+    public int exportText(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        long[] slots;
+        lock.readLock().lock();
+        try { slots = index.keySet().stream().mapToLong(Long::longValue).sorted().toArray(); }
+        finally { lock.readLock().unlock(); }
+        int n = 0;
+        for (long slot : slots) {
+            GameState state = get(slot);
+            if (state == null) continue; // removed meanwhile
+            Persistence.save(dir.resolve(slot + ".txt"), state);
+            n++;
+        }
+        return n;
+    }
+
+    // rebuilds the index and free list from an existing file
+    private void scan(Path file) throws IOException {
+        if (channel.size() < HEADER) throw new IOException("Corrupt slot file: " + file);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+        int cap = header.getInt(8);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || cap < 1 || cap > MAX_CAPACITY) {
+            throw new IOException("Not a slot file: " + file);
+        }
+        remap(cap);
+        for (int r = cap - 1; r >= 0; r--) { // lowest records come off the free stack first
+            int at = offset(r);
+            if (map.getInt(at + 32) == 1 && map.getInt(at + CRC_AT) == crc(at) && !index.containsKey(map.getLong(at))) {
+                index.put(map.getLong(at), r);
+            } else {
+                pushFree(r);
+            }
+        }
+    }
+
+    private void grow() throws IOException {
+        if (capacity == MAX_CAPACITY) throw new IOException("Slot file full");
+        int old = capacity;
+        map.force();
+        remap((int) Math.min((long) old * 2, MAX_CAPACITY));
+        map.putInt(8, capacity);
+        for (int r = capacity - 1; r >= old; r--) pushFree(r);
+    }
+
+    private void remap(int newCapacity) throws IOException {
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + (long) newCapacity * RECORD);
+        capacity = newCapacity;
+    }
+
+    private void pushFree(int r) {
+        if (freeCount == free.length) free = Arrays.copyOf(free, free.length * 2);
+        free[freeCount++] = r;
+    }
+
+    private int crc(int at) {
+        CRC32 crc = new CRC32();
+        crc.update(map.slice(at, CRC_AT));
+        return (int) crc.getValue();
+    }
+
+    private static int offset(int record) {
+        return HEADER + record * RECORD;
+    }
+}
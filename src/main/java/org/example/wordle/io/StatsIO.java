@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 public class StatsIO {
 
@@ -13,13 +14,16 @@ public class StatsIO {
      *  line1: games
      *  line2: wins
      *  line3: six integers for distribution (wins in 1..6 guesses), space-separated
+     *  Written to a temp file and renamed over {@code file}, so readers never see half a file.
      */
     public static void save(Path file, Stats s) throws IOException {
         if (file.getParent() != null) Files.createDirectories(file.getParent());
-        int[] d = s.getGuessDistribution();
-        String dist = String.format("%d %d %d %d %d %d", d[0], d[1], d[2], d[3], d[4], d[5]);
-        String content = s.getGames() + "\n" + s.getWins() + "\n" + dist + "\n";
-        Files.writeString(file, content, StandardCharsets.UTF_8);
+        StringBuilder content = new StringBuilder(64).append(s.getGames()).append('\n').append(s.getWins()).append('\n');
+        for (int v : s.getGuessDistribution()) content.append(v).append(' ');
+        content.setCharAt(content.length() - 1, '\n');
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, content, StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 
     public static Stats load(Path file) throws IOException {
@@ -0,0 +1,85 @@
+package org.example.wordle.io;
+
+import org.example.wordle.model.Stats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind persistence for stats. {@link #changed()} only schedules a save; every change
+ * made before that save runs is written by it, so a burst of finished games costs one write.
+ * Saves run on a background thread via {@link StatsIO#save}, which replaces the file
+ * atomically. A failed save is logged and kept in {@link #lastFailure()}; the next change or
+ * {@link #close()} tries again. {@link #close()} writes any pending change before returning.
+ */
+public class StatsWriter implements Closeable {
+    private final Path file;
+    private final Supplier<Stats> source;
+    private final long delayMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile IOException lastFailure;
+    private long writes;
+
+    /** @param source current totals; called on the writer thread, so it must be safe to call from there */
+    public StatsWriter(Path file, Supplier<Stats> source, long delayMillis) {
+        this.file = file;
+        this.source = source;
+        this.delayMillis = delayMillis;
+        this.executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "wordle-stats-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false); // close() saves instead
+    }
+
+    /** Schedules a save unless one is already pending. Cheap; safe from any thread. */
+    public void changed() {
+        if (closed || !pending.compareAndSet(false, true)) return;
+        executor.schedule(() -> {
+            pending.set(false); // changes from here on schedule another save
+            try {
+                flush();
+            } catch (IOException e) {
+                lastFailure = e;
+                System.err.println("Could not save stats to " + file + ": " + e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Saves the current totals now, on the calling thread. */
+    public synchronized void flush() throws IOException {
+        StatsIO.save(file, source.get());
+        writes++;
+        lastFailure = null;
+    }
+
+    /** Number of saves that reached the disk. */
+    public synchronized long writes() { return writes; }
+
+    /** Why the most recent background save failed, or null if it succeeded. */
+    public IOException lastFailure() { return lastFailure; }
+
+    /**
+     * Stops the background thread and writes any pending change. A save already running is
+     * let finish rather than interrupted (an interrupt would close its file channel mid-write).
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending.getAndSet(false) || lastFailure != null) flush();
+    }
+}
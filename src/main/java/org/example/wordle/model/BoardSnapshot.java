@@ -0,0 +1,17 @@
+package org.example.wordle.model;
+
+import java.util.List;
+
+/**
+ * Immutable view of a game at one {@code version}. {@link WordleModel} hands out the
+ * same instance until the next guess, reset, restore or mode change, so renderers and
+ * hint callers can poll it without allocating and pass it to other threads as is.
+ *
+ * @param version increases with every change to the model
+ * @param guesses uppercase guesses in play order (unmodifiable)
+ * @param feedback one unmodifiable row per guess (unmodifiable)
+ */
+public record BoardSnapshot(long version, List<String> guesses, List<List<LetterFeedback>> feedback,
+                            GameStatus status, boolean hardMode) {
+    public int turns() { return guesses.size(); }
+}
@@ -0,0 +1,44 @@
+package org.example.wordle.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Stats} for many writers at once: each counter is a {@link LongAdder}, so
+ * recording a game never locks. {@link #snapshot()} is not atomic across counters, but
+ * games is bumped first and read last, so a snapshot never shows more wins than games.
+ */
+public class ConcurrentStats {
+    private final LongAdder games = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder[] guessWins = new LongAdder[6]; // wins in 1..6 guesses
+
+    public ConcurrentStats() {
+        for (int i = 0; i < guessWins.length; i++) guessWins[i] = new LongAdder();
+    }
+
+    /** Starts from the totals in {@code seed}, e.g. as loaded from disk. */
+    public ConcurrentStats(Stats seed) {
+        this();
+        games.add(seed.getGames());
+        wins.add(seed.getWins());
+        int[] dist = seed.getGuessDistribution();
+        for (int i = 0; i < guessWins.length; i++) guessWins[i].add(dist[i]);
+    }
+
+    /** Call exactly once per finished game; safe from any thread. */
+    public void recordGame(GameStatus status, int turnsTaken) {
+        games.increment();
+        if (status == GameStatus.WON) {
+            wins.increment();
+            if (turnsTaken >= 1 && turnsTaken <= 6) guessWins[turnsTaken - 1].increment();
+        }
+    }
+
+    /** The totals so far as a plain {@link Stats}. */
+    public Stats snapshot() {
+        int[] dist = new int[guessWins.length];
+        for (int i = 0; i < dist.length; i++) dist[i] = guessWins[i].intValue();
+        int w = wins.intValue();
+        return new Stats(games.intValue(), w, dist);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.wordle.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything the feedback so far says about the secret, updated once per accepted row:
+ * fixed letters per position, letters ruled out per position, and min/max count per
+ * letter. Shared by hard-mode validation in {@link WordleModel} and candidate filtering
+ * in {@link HintEngine}. Only this package can fold in rows, so a state handed out is read-only.
+ */
+public final class ConstraintState {
+    static final int LEN = WordleModel.WORD_LENGTH;
+
+    final byte[] must = new byte[LEN]; // letter code + 1 fixed at each position, 0 = open
+    final int[] cannot = new int[LEN]; // bit L: letter L is ruled out at this position
+    final byte[] min = new byte[26];
+    final byte[] max = new byte[26];
+    private int required; // bit L set when min[L] > 0
+
+    public ConstraintState() {
+        Arrays.fill(max, (byte) LEN);
+    }
+
+    public static ConstraintState of(List<String> guesses, List<List<LetterFeedback>> fb) {
+        ConstraintState c = new ConstraintState();
+        for (int r = 0; r < guesses.size(); r++) c.apply(guesses.get(r), fb.get(r));
+        return c;
+    }
+
+    public ConstraintState copy() {
+        ConstraintState c = new ConstraintState();
+        System.arraycopy(must, 0, c.must, 0, LEN);
+        System.arraycopy(cannot, 0, c.cannot, 0, LEN);
+        System.arraycopy(min, 0, c.min, 0, 26);
+        System.arraycopy(max, 0, c.max, 0, 26);
+        c.required = required;
+        return c;
+    }
+
+    /** Folds in one row of feedback for {@code guess} (A–Z, either case). */
+    void apply(String guess, List<LetterFeedback> row) {
+        int[] greenYellow = new int[26];
+        int absentMask = 0;
+        for (int i = 0; i < LEN; i++) {
+            int L = PackedWord.letterCode(guess.charAt(i));
+            switch (row.get(i)) {
+                case CORRECT -> { must[i] = (byte) (L + 1); greenYellow[L]++; }
+                case PRESENT -> { cannot[i] |= 1 << L; greenYellow[L]++; }
+                case ABSENT -> { cannot[i] |= 1 << L; absentMask |= 1 << L; } // else it would be green
+            }
+        }
+        for (int L = 0; L < 26; L++) {
+            if (greenYellow[L] > min[L]) min[L] = (byte) greenYellow[L];
+            // a grey copy caps the count at the number of green/yellow copies in this row
+            if ((absentMask & (1 << L)) != 0 && greenYellow[L] < max[L]) max[L] = (byte) greenYellow[L];
+            if (min[L] > 0) required |= 1 << L;
+        }
+    }
+
+    /** The letter fixed at position {@code i}, or 0. */
+    public char mustAt(int i) { return must[i] == 0 ? 0 : (char) ('A' + must[i] - 1); }
+
+    public int minCount(char letter) { return min[PackedWord.letterCode(letter)]; }
+
+    public int maxCount(char letter) { return max[PackedWord.letterCode(letter)]; }
+
+    /**
+     * Why {@code guess} breaks hard mode, or null if it is allowed: greens must stay in
+     * place and revealed letters must be reused. {@code strict} also rejects a letter in a
+     * position already ruled out for it (a yellow or grey there).
+     */
+    public String hardModeViolation(String guess, boolean strict) {
+        int[] count = new int[26];
+        for (int i = 0; i < LEN; i++) {
+            int L = PackedWord.letterCode(guess.charAt(i));
+            if (must[i] != 0 && must[i] != L + 1)
+                return "Hard mode: position " + (i + 1) + " must be '" + mustAt(i) + "'";
+            if (strict && (cannot[i] & (1 << L)) != 0)
+                return "Hard mode: '" + (char) ('A' + L) + "' can't be in position " + (i + 1);
+            count[L]++;
+        }
+        for (int m = required; m != 0; m &= m - 1) {
+            int L = Integer.numberOfTrailingZeros(m);
+            if (count[L] < min[L]) {
+                char ch = (char) ('A' + L);
+                return min[L] == 1 ? "Hard mode: must include '" + ch + "'"
+                        : "Hard mode: must include " + min[L] + " '" + ch + "' letters";
+            }
+        }
+        return null;
+    }
+}
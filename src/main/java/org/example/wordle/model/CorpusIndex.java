@@ -0,0 +1,70 @@
+package org.example.wordle.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Inverted bitset index over a fixed corpus: one bitset per (letter, position) and one
+ * per (letter, count >= n). A whole {@link ConstraintState} resolves to a
+ * candidate bitset with word-wide AND / ANDNOT operations instead of per-word checks.
+ */
+final class CorpusIndex {
+    private static final int LEN = WordleModel.WORD_LENGTH;
+
+    private final int size;
+    private final int words; // longs per bitset
+    private final long[][] at = new long[26 * LEN][];      // [letter * LEN + position]
+    private final long[][] atLeast = new long[26 * LEN][]; // [letter * LEN + (n - 1)]: count >= n
+
+    CorpusIndex(List<String> corpus) {
+        this.size = corpus.size();
+        this.words = (size + 63) >>> 6;
+        for (int i = 0; i < at.length; i++) { at[i] = new long[words]; atLeast[i] = new long[words]; }
+        int[] count = new int[26];
+        for (int w = 0; w < size; w++) {
+            String word = corpus.get(w);
+            long bit = 1L << w;
+            Arrays.fill(count, 0);
+            for (int i = 0; i < LEN; i++) {
+                int L = word.charAt(i) - 'A';
+                at[L * LEN + i][w >>> 6] |= bit;
+                count[L]++;
+                atLeast[L * LEN + count[L] - 1][w >>> 6] |= bit;
+            }
+        }
+    }
+
+    int size() { return size; }
+
+    /** Every corpus word as a bitset. */
+    long[] all() {
+        long[] r = new long[words];
+        Arrays.fill(r, -1L);
+        if ((size & 63) != 0) r[words - 1] = (1L << size) - 1; // shift is taken mod 64
+        return r;
+    }
+
+    /** Bitset of the corpus words that satisfy {@code c}. */
+    long[] resolve(ConstraintState c) {
+        long[] r = all();
+        for (int i = 0; i < LEN; i++) {
+            if (c.must[i] != 0) and(r, at[(c.must[i] - 1) * LEN + i]);
+            for (int m = c.cannot[i]; m != 0; m &= m - 1) andNot(r, at[Integer.numberOfTrailingZeros(m) * LEN + i]);
+        }
+        for (int L = 0; L < 26; L++) {
+            int min = c.min[L], max = c.max[L];
+            if (min > LEN || min > max) { Arrays.fill(r, 0L); return r; }
+            if (min > 0) and(r, atLeast[L * LEN + min - 1]);
+            if (max < LEN) andNot(r, atLeast[L * LEN + max]);
+        }
+        return r;
+    }
+
+    private static void and(long[] r, long[] m) {
+        for (int i = 0; i < r.length; i++) r[i] &= m[i];
+    }
+
+    private static void andNot(long[] r, long[] m) {
+        for (int i = 0; i < r.length; i++) r[i] &= ~m[i];
+    }
+}
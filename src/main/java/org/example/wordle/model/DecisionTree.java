@@ -0,0 +1,106 @@
+package org.example.wordle.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Compact solved strategy: node 0 is the opening guess, and each node lists its
+ * children by feedback pattern (at most 243, kept sorted). Following the tree
+ * costs one bounded lookup per turn. An ALL_CORRECT pattern never has a child.
+ *
+ * File format (big-endian): int MAGIC, int VERSION, long secretsFingerprint,
+ * int nodeCount, int edgeCount, nodeCount packed guesses, nodeCount+1 edge offsets,
+ * edgeCount pattern bytes, edgeCount child node ids.
+ */
+public final class DecisionTree {
+    private static final int MAGIC = 0x57445452; // "WDTR"
+    private static final int VERSION = 1;
+
+    private final long secretsFingerprint;
+    private final int[] guess;     // per node, packed word
+    private final int[] edgeStart; // per node, offset into edges; length nodes + 1
+    private final byte[] edgePattern;
+    private final int[] edgeChild;
+
+    public DecisionTree(long secretsFingerprint, int[] guess, int[] edgeStart, byte[] edgePattern, int[] edgeChild) {
+        if (edgeStart.length != guess.length + 1 || edgePattern.length != edgeChild.length)
+            throw new IllegalArgumentException("Inconsistent tree arrays");
+        this.secretsFingerprint = secretsFingerprint;
+        this.guess = guess;
+        this.edgeStart = edgeStart;
+        this.edgePattern = edgePattern;
+        this.edgeChild = edgeChild;
+    }
+
+    /** Fingerprint of the secret list a tree was solved for. */
+    public static long fingerprintOf(int[] sortedSecrets) {
+        return FeedbackMatrix.fingerprint(new int[0], sortedSecrets);
+    }
+
+    public long secretsFingerprint() { return secretsFingerprint; }
+
+    /** Hash of the whole strategy; differs between trees solved for the same secrets. */
+    public long fingerprint() {
+        int[] nodes = new int[guess.length + edgeStart.length];
+        System.arraycopy(guess, 0, nodes, 0, guess.length);
+        System.arraycopy(edgeStart, 0, nodes, guess.length, edgeStart.length);
+        int[] edges = new int[edgeChild.length];
+        for (int i = 0; i < edges.length; i++) edges[i] = edgeChild[i] << 8 | (edgePattern[i] & 0xFF);
+        return FeedbackMatrix.fingerprint(nodes, edges) * 31 + secretsFingerprint;
+    }
+    public int nodeCount() { return guess.length; }
+
+    /** Packed word to play at {@code node}. */
+    public int guessAt(int node) { return guess[node]; }
+
+    /** Child reached from {@code node} after seeing {@code pattern}, or -1 if the tree has none. */
+    public int next(int node, int pattern) {
+        int lo = edgeStart[node], hi = edgeStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int p = edgePattern[mid] & 0xFF;
+            if (p < pattern) lo = mid + 1;
+            else if (p > pattern) hi = mid - 1;
+            else return edgeChild[mid];
+        }
+        return -1;
+    }
+
+    public void write(OutputStream os) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(secretsFingerprint);
+        out.writeInt(guess.length);
+        out.writeInt(edgeChild.length);
+        for (int g : guess) out.writeInt(g);
+        for (int e : edgeStart) out.writeInt(e);
+        out.write(edgePattern);
+        for (int c : edgeChild) out.writeInt(c);
+        out.flush();
+    }
+
+    public static DecisionTree read(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+        if (in.readInt() != MAGIC) throw new IOException("Not a decision tree file");
+        if (in.readInt() != VERSION) throw new IOException("Unsupported decision tree version");
+        long fp = in.readLong();
+        int nodes = in.readInt(), edges = in.readInt();
+        if (nodes < 1 || edges < 0) throw new IOException("Corrupt decision tree header");
+        int[] guess = new int[nodes];
+        for (int i = 0; i < nodes; i++) guess[i] = in.readInt();
+        int[] start = new int[nodes + 1];
+        for (int i = 0; i <= nodes; i++) start[i] = in.readInt();
+        byte[] pattern = new byte[edges];
+        in.readFully(pattern);
+        int[] child = new int[edges];
+        for (int i = 0; i < edges; i++) child[i] = in.readInt();
+        if (start[nodes] != edges) throw new IOException("Corrupt decision tree edges");
+        return new DecisionTree(fp, guess, start, pattern, child);
+    }
+}
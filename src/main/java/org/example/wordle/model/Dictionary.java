@@ -3,4 +3,9 @@ package org.example.wordle.model;
 public interface Dictionary {
     boolean isValidWord(String word);
     String randomSecret();
+
+    /** Validation for an already-packed guess ({@link PackedWord}); implementations override this to avoid allocating. */
+    default boolean isValidPacked(int packed) {
+        return packed != PackedWord.INVALID && isValidWord(PackedWord.unpack(packed));
+    }
 }
\ No newline at end of file
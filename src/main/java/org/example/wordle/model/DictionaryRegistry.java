@@ -0,0 +1,90 @@
+package org.example.wordle.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Loads each word list exactly once, lazily and thread-safely, and hands the same
+ * instances to every game, hint engine and session. Also records how long each
+ * load took so startup regressions are visible.
+ */
+public final class DictionaryRegistry {
+    public static final String SECRETS_RESOURCE = "/wordlist.txt";
+    public static final String ALLOW_LIST_RESOURCE = "/english-words-5.txt";
+
+    private static final DictionaryRegistry SHARED = new DictionaryRegistry();
+
+    private final Map<String, Long> loadNanos = new LinkedHashMap<>();
+    private final Lazy<int[]> secretWords = new Lazy<>("secret words", () -> WordListFile.load(SECRETS_RESOURCE));
+    private final Lazy<int[]> allowedWords = new Lazy<>("allow-list words", () -> {
+        int[] words = WordListFile.load(ALLOW_LIST_RESOURCE);
+        return words != null ? words : new int[0];
+    });
+    private final Lazy<SimpleDictionary> secrets = new Lazy<>("secret dictionary", () -> new SimpleDictionary(secretWords.get()));
+    private final Lazy<Dictionary> allowList = new Lazy<>("allow-list dictionary", () ->
+            allowedWords.get().length > 0
+                    ? new EnglishAllowListDictionary(secrets.get(), allowedWords.get())
+                    : new EnglishAllowListDictionary(secrets.get(), ALLOW_LIST_RESOURCE)); // system dictionary fallback
+    private final Lazy<HintEngine> hints = new Lazy<>("hint engine", () -> {
+        HintEngine engine = new HintEngine(unpack(secretWords.get()), unpack(allowedWords.get()));
+        engine.useBundledTree();
+        return engine;
+    });
+
+    public static DictionaryRegistry shared() { return SHARED; }
+
+    /** Secret source: curated words from wordlist.txt. */
+    public SimpleDictionary secrets() { return secrets.get(); }
+
+    /** Guess validation: english-words-5.txt, secrets picked from {@link #secrets()}. */
+    public Dictionary allowList() { return allowList.get(); }
+
+    public HintEngine hintEngine() { return hints.get(); }
+
+    /** Load time per component in milliseconds, in load order; nested loads are included in their parent. */
+    public Map<String, Double> loadTimesMillis() {
+        Map<String, Double> out = new LinkedHashMap<>();
+        synchronized (loadNanos) {
+            loadNanos.forEach((k, v) -> out.put(k, v / 1e6));
+        }
+        return out;
+    }
+
+    private static List<String> unpack(int[] packed) {
+        if (packed == null) return List.of();
+        List<String> out = new ArrayList<>(packed.length);
+        for (int p : packed) out.add(PackedWord.unpack(p));
+        return out;
+    }
+
+    private final class Lazy<T> {
+        private final String name;
+        private final Supplier<T> loader;
+        private volatile T value;
+
+        Lazy(String name, Supplier<T> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        T get() {
+            T v = value;
+            if (v == null) {
+                synchronized (this) {
+                    v = value;
+                    if (v == null) {
+                        long t0 = System.nanoTime();
+                        v = loader.get();
+                        long took = System.nanoTime() - t0;
+                        synchronized (loadNanos) { loadNanos.put(name, took); }
+                        value = v;
+                    }
+                }
+            }
+            return v;
+        }
+    }
+}
@@ -1,25 +1,28 @@
 package org.example.wordle.model;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Validates guesses against a large allow-list of real English 5-letter words.
  * Secrets are still chosen from another dictionary (e.g., SimpleDictionary).
  *
- * Put a file like /english-words-5.txt in resources (one word per line).
+ * Put a file like /english-words-5.txt in resources (one word per line); the build
+ * also precompiles it to /english-words-5.bin for faster startup (see WordListFile).
  * If that resource isn't found, it will try the system dictionary at /usr/share/dict/words.
  */
 public class EnglishAllowListDictionary implements Dictionary {
     private final Dictionary secretSource;
-    private final Set<String> valid = new HashSet<>();
+    private final PackedWordSet valid = new PackedWordSet(1024);
+
+    /** Allow-list from an already-loaded packed word list (see {@link DictionaryRegistry}). */
+    public EnglishAllowListDictionary(Dictionary secretSource, int[] packedWords) {
+        this.secretSource = secretSource;
+        for (int p : packedWords) valid.add(p);
+        if (valid.size() == 0) throw new IllegalStateException("Allow-list is empty");
+    }
 
     public EnglishAllowListDictionary(Dictionary secretSource, String resourcePath) {
         this.secretSource = secretSource;
@@ -28,7 +31,7 @@ public class EnglishAllowListDictionary implements Dictionary {
             // Fallback to system dictionary on macOS/Linux (optional)
             trySystemDictionary(Path.of("/usr/share/dict/words"));
         }
-        if (valid.isEmpty()) {
+        if (valid.size() == 0) {
             throw new IllegalStateException(
                     "No allow-list found. Add /english-words-5.txt to resources or provide a valid path.");
         }
@@ -36,11 +39,13 @@ public class EnglishAllowListDictionary implements Dictionary {
 
     @Override
     public boolean isValidWord(String word) {
-        if (word == null || word.length() != 5) return false;
-        String up = word.toUpperCase();
-        // Only pure letters; reject digits/accents/punct
-        if (!up.matches("[A-Z]{5}")) return false;
-        return valid.contains(up);
+        // packing rejects anything but 5 plain letters (digits/accents/punct) without allocating
+        return valid.contains(PackedWord.pack(word));
+    }
+
+    @Override
+    public boolean isValidPacked(int packed) {
+        return valid.contains(packed);
     }
 
     @Override
@@ -50,31 +55,18 @@ public class EnglishAllowListDictionary implements Dictionary {
 
     // ---- loaders ----
     private boolean loadFromResource(String resourcePath) {
-        try (InputStream in = getClass().getResourceAsStream(resourcePath)) {
-            if (in == null) return false;
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    line = line.trim();
-                    if (line.length() == 5 && line.matches("[A-Za-z]{5}")) {
-                        valid.add(line.toUpperCase());
-                    }
-                }
-            }
-            return true;
-        } catch (IOException e) {
-            return false;
-        }
+        int[] words = WordListFile.load(resourcePath); // precompiled .bin when present, else the text
+        if (words == null) return false;
+        for (int p : words) valid.add(p);
+        return true;
     }
 
     private void trySystemDictionary(Path path) {
         try {
             if (!Files.exists(path)) return;
             for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
-                String w = line.trim();
-                if (w.length() == 5 && w.matches("[A-Za-z]{5}")) {
-                    valid.add(w.toUpperCase());
-                }
+                int p = PackedWord.pack(line.trim());
+                if (p != PackedWord.INVALID) valid.add(p);
             }
         } catch (IOException ignored) { }
     }
@@ -0,0 +1,102 @@
+package org.example.wordle.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed feedback pattern for every (guess, secret) pair, one byte per cell
+ * (see {@link FeedbackPattern}). Rows are allow-list guesses, columns are secrets,
+ * both kept as sorted {@link PackedWord} arrays so lookups are a binary search.
+ *
+ * The backing buffer may live on the heap (freshly computed) or be a memory-mapped
+ * cache file (see {@code io.FeedbackMatrixIO}).
+ */
+public final class FeedbackMatrix {
+    private final int[] guesses;
+    private final int[] secrets;
+    private final ByteBuffer patterns; // row-major: guesses.length x secrets.length
+
+    public FeedbackMatrix(int[] sortedGuesses, int[] sortedSecrets, ByteBuffer patterns) {
+        if ((long) sortedGuesses.length * sortedSecrets.length != patterns.capacity())
+            throw new IllegalArgumentException("Pattern buffer does not match word list sizes");
+        this.guesses = sortedGuesses;
+        this.secrets = sortedSecrets;
+        this.patterns = patterns;
+    }
+
+    /** Computes the full matrix in memory; rows are filled in parallel. */
+    public static FeedbackMatrix compute(Collection<String> guessWords, Collection<String> secretWords) {
+        int[] g = packSorted(guessWords);
+        int[] s = packSorted(secretWords);
+        long cells = (long) g.length * s.length;
+        if (cells > Integer.MAX_VALUE) throw new IllegalArgumentException("Matrix too large: " + cells + " cells");
+        byte[] out = new byte[(int) cells];
+        IntStream.range(0, g.length).parallel().forEach(r -> {
+            int base = r * s.length;
+            for (int c = 0; c < s.length; c++) out[base + c] = (byte) WordleModel.evaluatePacked(g[r], s[c]);
+        });
+        return new FeedbackMatrix(g, s, ByteBuffer.wrap(out));
+    }
+
+    /** Sorted, de-duplicated packed form of a word list; non A–Z words are skipped. */
+    public static int[] packSorted(Collection<String> words) {
+        int[] out = new int[words.size()];
+        int n = 0;
+        for (String w : words) {
+            int p = PackedWord.pack(w);
+            if (p != PackedWord.INVALID) out[n++] = p;
+        }
+        Arrays.sort(out, 0, n);
+        int u = 0;
+        for (int i = 0; i < n; i++) if (u == 0 || out[u - 1] != out[i]) out[u++] = out[i];
+        return Arrays.copyOf(out, u);
+    }
+
+    /** FNV-1a hash over both word lists; used to key cache files. */
+    public static long fingerprint(int[] sortedGuesses, int[] sortedSecrets) {
+        long h = 0xcbf29ce484222325L;
+        h = mix(h, sortedGuesses.length);
+        for (int p : sortedGuesses) h = mix(h, p);
+        h = mix(h, sortedSecrets.length);
+        for (int p : sortedSecrets) h = mix(h, p);
+        return h;
+    }
+
+    private static long mix(long h, int v) {
+        for (int k = 0; k < 4; k++) {
+            h ^= (v >>> (8 * k)) & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    public long fingerprint() { return fingerprint(guesses, secrets); }
+
+    public int guessCount() { return guesses.length; }
+    public int secretCount() { return secrets.length; }
+    public int guessAt(int row) { return guesses[row]; }
+    public int secretAt(int col) { return secrets[col]; }
+
+    /** Row of a packed guess, or a negative value if it is not in the matrix. */
+    public int guessIndex(int packedGuess) { return Arrays.binarySearch(guesses, packedGuess); }
+
+    /** Column of a packed secret, or a negative value if it is not in the matrix. */
+    public int secretIndex(int packedSecret) { return Arrays.binarySearch(secrets, packedSecret); }
+
+    /** Pattern code for a (row, column) pair. */
+    public int pattern(int guessRow, int secretCol) {
+        return patterns.get(guessRow * secrets.length + secretCol) & 0xFF;
+    }
+
+    /** Pattern code for any two packed words; falls back to evaluation outside the matrix. */
+    public int lookup(int packedGuess, int packedSecret) {
+        int r = guessIndex(packedGuess), c = secretIndex(packedSecret);
+        if (r < 0 || c < 0) return WordleModel.evaluatePacked(packedGuess, packedSecret);
+        return pattern(r, c);
+    }
+
+    /** Read-only view of the raw row-major pattern bytes. */
+    public ByteBuffer patterns() { return patterns.asReadOnlyBuffer(); }
+}
@@ -0,0 +1,58 @@
+package org.example.wordle.model;
+
+import java.util.List;
+
+/**
+ * Base-3 feedback pattern code for one row: position i contributes digit * 3^i,
+ * with ABSENT=0, PRESENT=1, CORRECT=2. Codes range over 0..242.
+ */
+public final class FeedbackPattern {
+    public static final int COUNT = 243;
+    public static final int ALL_CORRECT = COUNT - 1;
+
+    static final int[] POW3 = {1, 3, 9, 27, 81};
+
+    private static final List<LetterFeedback>[] DECODED = decodeAll();
+
+    private FeedbackPattern() {}
+
+    public static int encode(List<LetterFeedback> row) {
+        int code = 0;
+        for (int i = 0; i < WordleModel.WORD_LENGTH; i++) code += digit(row.get(i)) * POW3[i];
+        return code;
+    }
+
+    /** Returns a shared immutable row for the given code. */
+    public static List<LetterFeedback> decode(int code) {
+        if (code < 0 || code >= COUNT) throw new IllegalArgumentException("Bad pattern code: " + code);
+        return DECODED[code];
+    }
+
+    /** Feedback at position {@code i} of a pattern code. */
+    public static LetterFeedback at(int code, int i) {
+        return switch ((code / POW3[i]) % 3) {
+            case 2 -> LetterFeedback.CORRECT;
+            case 1 -> LetterFeedback.PRESENT;
+            default -> LetterFeedback.ABSENT;
+        };
+    }
+
+    private static int digit(LetterFeedback fb) {
+        return switch (fb) {
+            case CORRECT -> 2;
+            case PRESENT -> 1;
+            case ABSENT -> 0;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<LetterFeedback>[] decodeAll() {
+        List<LetterFeedback>[] all = new List[COUNT];
+        LetterFeedback[] row = new LetterFeedback[WordleModel.WORD_LENGTH];
+        for (int code = 0; code < COUNT; code++) {
+            for (int i = 0; i < WordleModel.WORD_LENGTH; i++) row[i] = at(code, i);
+            all[code] = List.of(row);
+        }
+        return all;
+    }
+}
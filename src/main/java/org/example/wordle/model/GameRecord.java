@@ -0,0 +1,6 @@
+package org.example.wordle.model;
+
+/** One finished game as kept in the history: when it ended, the packed secret, guesses used, result and mode. */
+public record GameRecord(long timeMillis, int secret, int turns, GameStatus status, boolean hardMode) {
+    public boolean won() { return status == GameStatus.WON; }
+}
@@ -0,0 +1,79 @@
+package org.example.wordle.model;
+
+/**
+ * A whole game in three longs (182 of 192 bits used), for parking idle sessions.
+ * Feedback is not stored: it is recomputed from the secret and each guess.
+ *
+ * <pre>
+ * bits   0..24   secret (PackedWord)
+ * bits  25..27   guess count (0..6)
+ * bits  28..29   status ordinal
+ * bit   30       hard mode
+ * bits  31..180  guesses, 25 bits each, in play order
+ * bit   181      strict hard mode
+ * </pre>
+ */
+public record GameState(long w0, long w1, long w2) {
+    private static final int WORD_BITS = PackedWord.BITS * WordleModel.WORD_LENGTH;
+    private static final int COUNT_AT = WORD_BITS, STATUS_AT = COUNT_AT + 3, HARD_AT = STATUS_AT + 2, GUESSES_AT = HARD_AT + 1;
+    private static final int STRICT_AT = GUESSES_AT + WordleModel.MAX_TURNS * WORD_BITS;
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    public static GameState of(int secret, int[] guesses, int count, GameStatus status, boolean hardMode) {
+        return of(secret, guesses, count, status, hardMode, false);
+    }
+
+    public static GameState of(int secret, int[] guesses, int count, GameStatus status, boolean hardMode, boolean strictHardMode) {
+        if (count < 0 || count > WordleModel.MAX_TURNS) throw new IllegalArgumentException("Bad guess count: " + count);
+        long[] w = new long[3];
+        put(w, 0, WORD_BITS, secret);
+        put(w, COUNT_AT, 3, count);
+        put(w, STATUS_AT, 2, status.ordinal());
+        put(w, HARD_AT, 1, hardMode ? 1 : 0);
+        put(w, STRICT_AT, 1, strictHardMode ? 1 : 0);
+        for (int i = 0; i < count; i++) put(w, GUESSES_AT + i * WORD_BITS, WORD_BITS, guesses[i]);
+        return new GameState(w[0], w[1], w[2]);
+    }
+
+    /** State after playing {@code guesses} against {@code secret}; the status is derived, nothing is validated. */
+    public static GameState replayed(int secret, int[] guesses, int count, boolean hardMode, boolean strictHardMode) {
+        GameStatus status = GameStatus.IN_PROGRESS;
+        if (count > 0 && guesses[count - 1] == secret) status = GameStatus.WON;
+        else if (count == WordleModel.MAX_TURNS) status = GameStatus.LOST;
+        return of(secret, guesses, count, status, hardMode, strictHardMode);
+    }
+
+    public int secret() { return (int) get(0, WORD_BITS); }
+
+    public int guessCount() { return (int) get(COUNT_AT, 3); }
+
+    /** Packed guess {@code i}, 0 = first. */
+    public int guess(int i) {
+        if (i < 0 || i >= guessCount()) throw new IndexOutOfBoundsException(i);
+        return (int) get(GUESSES_AT + i * WORD_BITS, WORD_BITS);
+    }
+
+    public GameStatus status() { return STATUSES[(int) get(STATUS_AT, 2)]; }
+
+    public boolean hardMode() { return get(HARD_AT, 1) != 0; }
+
+    public boolean strictHardMode() { return get(STRICT_AT, 1) != 0; }
+
+    private long get(int at, int width) {
+        long v = word(at >>> 6) >>> (at & 63);
+        int have = 64 - (at & 63);
+        if (have < width) v |= word((at >>> 6) + 1) << have;
+        return v & ((1L << width) - 1);
+    }
+
+    private long word(int i) {
+        return i == 0 ? w0 : i == 1 ? w1 : w2;
+    }
+
+    private static void put(long[] w, int at, int width, long value) {
+        value &= (1L << width) - 1;
+        w[at >>> 6] |= value << (at & 63);
+        int have = 64 - (at & 63);
+        if (have < width) w[(at >>> 6) + 1] |= value >>> have;
+    }
+}
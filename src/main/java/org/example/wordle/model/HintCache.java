@@ -0,0 +1,70 @@
+package org.example.wordle.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of hint results shared across games. Keys are a canonical
+ * signature of the board: scoring mode, k, and the (guess, pattern) rows. Rows are
+ * sorted, since they constrain the candidates independently of their order, except in
+ * TREE mode, whose answer depends on the path taken through the decision tree.
+ */
+public final class HintCache {
+    /** Counters since creation. */
+    public record Counters(long hits, long misses, long evictions, int size) {}
+
+    private final int capacity;
+    private final LinkedHashMap<String, List<String>> entries;
+    private long hits, misses, evictions;
+
+    public HintCache(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+                if (size() <= HintCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    public static String key(HintEngine.Scoring mode, int k, List<String> guesses, List<List<LetterFeedback>> fb) {
+        List<String> rows = new ArrayList<>(guesses.size());
+        for (int r = 0; r < guesses.size(); r++) rows.add(guesses.get(r) + ':' + FeedbackPattern.encode(fb.get(r)));
+        if (mode != HintEngine.Scoring.TREE) rows.sort(null);
+        return mode + "/" + k + "/" + String.join(",", rows);
+    }
+
+    /** Cached suggestions (counted as a hit) or null (counted as a miss). */
+    public synchronized List<String> get(String key) {
+        List<String> v = entries.get(key);
+        if (v != null) hits++; else misses++;
+        return v;
+    }
+
+    public synchronized void put(String key, List<String> suggestions) {
+        entries.put(key, List.copyOf(suggestions));
+    }
+
+    /** Up to {@code n} entries, most recently used first; used to persist the hot set. */
+    public synchronized Map<String, List<String>> hottest(int n) {
+        List<Map.Entry<String, List<String>>> all = new ArrayList<>(entries.entrySet());
+        Map<String, List<String>> out = new LinkedHashMap<>();
+        for (int i = all.size() - 1; i >= 0 && out.size() < n; i--) out.put(all.get(i).getKey(), all.get(i).getValue());
+        return out;
+    }
+
+    /** Adds entries without touching the counters, e.g. when warming from disk; {@code saved} is most recent first. */
+    public synchronized void warm(Map<String, List<String>> saved) {
+        List<Map.Entry<String, List<String>>> list = new ArrayList<>(saved.entrySet());
+        for (int i = list.size() - 1; i >= 0; i--) entries.put(list.get(i).getKey(), List.copyOf(list.get(i).getValue()));
+    }
+
+    public synchronized void clear() { entries.clear(); }
+
+    public synchronized Counters counters() { return new Counters(hits, misses, evictions, entries.size()); }
+
+}
@@ -1,32 +1,149 @@
 package org.example.wordle.model;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Smart hint engine: filters candidates based on prior feedback and
- * scores words by letter-frequency (approx. information gain).
+ * scores words either by letter-frequency (approx. information gain) or by
+ * true expected information over the feedback patterns they would produce.
  */
 public class HintEngine {
+    /** How {@link #suggest} ranks words. */
+    public enum Scoring { FREQUENCY, ENTROPY, TREE }
+
+    // below this many (guess, candidate) pairs the fork/join overhead outweighs the work
+    private static final int PARALLEL_THRESHOLD = 20_000;
+    /** Bump whenever a ranking changes, so hints persisted by an older build are discarded. */
+    static final int RANKING_VERSION = 2;
+
     private final List<String> corpus; // uppercase 5-letter words
+    private final List<String> guessPool; // words allowed as probes in ENTROPY mode (corpus included)
+    private final int[] poolPacked;
+    private final CorpusIndex index;
+    private volatile Scoring scoring = Scoring.FREQUENCY;
+    private volatile FeedbackMatrix matrix; // optional precomputed patterns
+    private volatile DecisionTree tree; // optional solved strategy for TREE scoring
+    private volatile HintCache cache; // optional, shared across games
 
-    /** Loads words from /wordlist.txt on the classpath. */
+    /** Loads secrets from /wordlist.txt and probe words from /english-words-5.txt on the classpath. */
     public HintEngine() {
-        this(loadWordList());
+        this(loadWordList("/wordlist.txt"), loadWordList("/english-words-5.txt"));
+        useBundledTree();
     }
 
     public HintEngine(List<String> wordsUppercase) {
+        this(wordsUppercase, List.of());
+    }
+
+    public HintEngine(List<String> wordsUppercase, List<String> allowedGuesses) {
         this.corpus = new ArrayList<>(wordsUppercase);
+        Set<String> pool = new LinkedHashSet<>(corpus);
+        pool.addAll(allowedGuesses);
+        this.guessPool = new ArrayList<>(pool);
+        this.poolPacked = new int[guessPool.size()];
+        for (int i = 0; i < poolPacked.length; i++) poolPacked[i] = PackedWord.pack(guessPool.get(i));
+        this.index = new CorpusIndex(corpus);
+    }
+
+    public Scoring getScoring() { return scoring; }
+    public void setScoring(Scoring scoring) { this.scoring = Objects.requireNonNull(scoring); }
+
+    /** Uses precomputed patterns for ENTROPY scoring where the matrix covers a pair. */
+    public void setFeedbackMatrix(FeedbackMatrix matrix) { this.matrix = matrix; }
+
+    /** Picks up /decision-tree.bin from the classpath if it was solved for this corpus. */
+    void useBundledTree() {
+        try (InputStream in = HintEngine.class.getResourceAsStream("/decision-tree.bin")) {
+            if (in != null) setDecisionTree(DecisionTree.read(in));
+        } catch (IOException | IllegalArgumentException ignored) { /* TREE falls back to ENTROPY */ }
+    }
+
+    /** Follows {@code tree} in TREE mode; it must have been solved for this corpus. */
+    public void setDecisionTree(DecisionTree tree) {
+        if (tree != null && tree.secretsFingerprint() != DecisionTree.fingerprintOf(FeedbackMatrix.packSorted(corpus)))
+            throw new IllegalArgumentException("Decision tree was built for a different word list");
+        this.tree = tree;
+        HintCache c = cache;
+        if (c != null) c.clear(); // cached TREE answers may have come from the old tree
     }
 
+    /** Memoizes {@link #suggest} results by board signature; null disables caching. */
+    public void setCache(HintCache cache) { this.cache = cache; }
+    public HintCache getCache() { return cache; }
+
+    /**
+     * Identifies what this engine's answers depend on (word lists, decision tree and ranking
+     * version), so persisted hints can be checked against it.
+     */
+    public long fingerprint() {
+        long h = FeedbackMatrix.fingerprint(FeedbackMatrix.packSorted(guessPool), FeedbackMatrix.packSorted(corpus));
+        DecisionTree t = tree;
+        h = h * 31 + (t == null ? 0 : t.fingerprint());
+        return h * 31 + RANKING_VERSION;
+    }
+
+    public List<String> getCorpus() { return Collections.unmodifiableList(corpus); }
+    public List<String> getGuessPool() { return Collections.unmodifiableList(guessPool); }
+
     public List<String> suggest(List<String> guesses, List<List<LetterFeedback>> fb, int k) {
-        List<String> cand = filterCandidates(guesses, fb);
+        return suggest(guesses, fb, k, scoring);
+    }
+
+    public List<String> suggest(List<String> guesses, List<List<LetterFeedback>> fb, int k, Scoring mode) {
+        return cached(guesses, fb, k, mode, () -> rank(filterCandidates(guesses, fb), guesses, fb, k, mode));
+    }
+
+    private List<String> cached(List<String> guesses, List<List<LetterFeedback>> fb, int k, Scoring mode,
+                                Supplier<List<String>> compute) {
+        HintCache c = cache;
+        if (c == null) return compute.get();
+        String key = HintCache.key(mode, k, guesses, fb);
+        List<String> hit = c.get(key);
+        if (hit != null) return new ArrayList<>(hit);
+        List<String> out = compute.get();
+        c.put(key, out);
+        return out;
+    }
+
+    private List<String> rank(List<String> cand, List<String> guesses, List<List<LetterFeedback>> fb, int k, Scoring mode) {
         if (cand.isEmpty()) return List.of();
+        return switch (mode) {
+            case FREQUENCY -> rankByFrequency(cand, guesses, k);
+            case ENTROPY -> rankByEntropy(cand, guesses, k);
+            case TREE -> rankByTree(cand, guesses, fb, k);
+        };
+    }
+
+    /** Tree move first (when the game is still on the tree), then entropy picks. */
+    private List<String> rankByTree(List<String> cand, List<String> guesses, List<List<LetterFeedback>> fb, int k) {
+        String move = treeMove(guesses, fb);
+        if (move == null) return rankByEntropy(cand, guesses, k);
+        List<String> out = new ArrayList<>(k);
+        out.add(move);
+        if (k > 1) {
+            for (String w : rankByEntropy(cand, guesses, k)) if (out.size() < k && !w.equals(move)) out.add(w);
+        }
+        return out;
+    }
+
+    private String treeMove(List<String> guesses, List<List<LetterFeedback>> fb) {
+        DecisionTree t = tree;
+        if (t == null) return null;
+        int node = 0;
+        for (int r = 0; r < guesses.size(); r++) {
+            if (t.guessAt(node) != PackedWord.pack(guesses.get(r))) return null;
+            node = t.next(node, FeedbackPattern.encode(fb.get(r)));
+            if (node < 0) return null;
+        }
+        return PackedWord.unpack(t.guessAt(node));
+    }
+
+    private List<String> rankByFrequency(List<String> cand, List<String> guesses, int k) {
 // build frequency over remaining candidates (unique letters per word)
         int[] freq = new int[26];
         for (String w : cand) {
@@ -57,102 +174,95 @@ public class HintEngine {
                 .collect(Collectors.toList());
     }
 
-    private List<String> filterCandidates(List<String> guesses, List<List<LetterFeedback>> fb) {
-        if (guesses.isEmpty()) return new ArrayList<>(corpus);
-        Constraints C = Constraints.from(guesses, fb);
-        List<String> out = new ArrayList<>();
-        outer: for (String w : corpus) {
-// fixed positions
-            for (int i = 0; i < 5; i++) {
-                if (C.must[i] != 0 && w.charAt(i) != C.must[i]) continue outer;
-                if (C.cannot[i].contains(w.charAt(i))) continue outer;
-            }
-// letter count bounds
-            int[] count = new int[26];
-            for (int i = 0; i < 5; i++) count[w.charAt(i) - 'A']++;
-            for (int L = 0; L < 26; L++) {
-                if (count[L] < C.min[L]) continue outer;
-                if (count[L] > C.max[L]) continue outer;
+    /**
+     * Ranks every probe word by the Shannon entropy of the pattern distribution it
+     * induces over the remaining candidates (243 buckets). Candidates get a small
+     * bonus equal to their chance of winning outright, which breaks ties in their favour.
+     */
+    private List<String> rankByEntropy(List<String> cand, List<String> guesses, int k) {
+        int n = cand.size();
+        if (n <= 2) {
+// any remaining candidate is an optimal probe
+            return cand.stream().filter(w -> !guesses.contains(w)).limit(k).collect(Collectors.toList());
+        }
+        int[] secrets = new int[n];
+        for (int i = 0; i < n; i++) secrets[i] = PackedWord.pack(cand.get(i));
+        int[] sortedSecrets = secrets.clone();
+        Arrays.sort(sortedSecrets);
+
+        FeedbackMatrix m = matrix;
+        int[] columns = new int[n];
+        for (int i = 0; i < n; i++) columns[i] = (m == null) ? -1 : m.secretIndex(secrets[i]);
+        double[] score = new double[poolPacked.length];
+        double ln2 = Math.log(2);
+        double log2n = Math.log(n) / ln2;
+        IntStream range = IntStream.range(0, poolPacked.length);
+        if ((long) poolPacked.length * n >= PARALLEL_THRESHOLD) range = range.parallel();
+        range.forEach(g -> {
+            int probe = poolPacked[g];
+            int row = (m == null) ? -1 : m.guessIndex(probe);
+            int[] buckets = new int[FeedbackPattern.COUNT];
+            for (int i = 0; i < n; i++) {
+                int code = (row >= 0 && columns[i] >= 0)
+                        ? m.pattern(row, columns[i])
+                        : WordleModel.evaluatePacked(probe, secrets[i]);
+                buckets[code]++;
             }
-            out.add(w);
+            double sum = 0;
+            for (int c : buckets) if (c > 1) sum += c * Math.log(c);
+            double entropy = log2n - sum / (n * ln2);
+            if (Arrays.binarySearch(sortedSecrets, probe) >= 0) entropy += 1.0 / n;
+            score[g] = entropy;
+        });
+
+        Integer[] order = new Integer[poolPacked.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> score[a] != score[b]
+                ? Double.compare(score[b], score[a])
+                : Integer.compare(poolPacked[a], poolPacked[b]));
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < order.length && out.size() < k; i++) {
+            String w = guessPool.get(order[i]);
+            if (!guesses.contains(w)) out.add(w); // don't suggest what you already tried
         }
         return out;
     }
 
-    // --- Constraints builder (handles duplicates reasonably well across rows) ---
-    static class Constraints {
-        final char[] must = new char[5];
-        final List<Character>[] cannot = new List[5];
-        final int[] min = new int[26];
-        final int[] max = new int[26];
-        Constraints() {
-            for (int i = 0; i < 5; i++) cannot[i] = new ArrayList<>();
-            Arrays.fill(max, 5);
-        }
-        static Constraints from(List<String> guesses, List<List<LetterFeedback>> fb) {
-            Constraints C = new Constraints();
-            for (int r = 0; r < guesses.size(); r++) {
-                String g = guesses.get(r);
-                List<LetterFeedback> row = fb.get(r);
-                int[] greenYellow = new int[26];
-                int[] total = new int[26];
-// first pass: positions and per-row counts
-                for (int i = 0; i < 5; i++) {
-                    char ch = g.charAt(i);
-                    int idx = ch - 'A';
-                    total[idx]++;
-                    switch (row.get(i)) {
-                        case CORRECT -> { C.must[i] = ch; greenYellow[idx]++; }
-                        case PRESENT -> { C.cannot[i].add(ch); greenYellow[idx]++; }
-                        case ABSENT -> { /* handled via counts after */ }
-                    }
-                }
-// update global min/max from this row
-                for (int L = 0; L < 26; L++) {
-                    C.min[L] = Math.max(C.min[L], greenYellow[L]);
-                    int absents = total[L] - greenYellow[L];
-                    if (absents > 0) {
-// if this row had any ABSENT of L, then the true count cannot exceed greenYellow for that row
-                        C.max[L] = Math.min(C.max[L], greenYellow[L]);
-                    }
-                }
-            }
-// letters never seen as green/yellow across all rows have max 0 if ever guessed and marked absent
-            boolean[] seenGY = new boolean[26];
-            for (int r = 0; r < guesses.size(); r++) {
-                String g = guesses.get(r);
-                List<LetterFeedback> row = fb.get(r);
-                for (int i = 0; i < 5; i++) {
-                    char ch = g.charAt(i); int idx = ch - 'A';
-                    if (row.get(i) == LetterFeedback.CORRECT || row.get(i) == LetterFeedback.PRESENT) seenGY[idx] = true;
-                }
-            }
-            for (int r = 0; r < guesses.size(); r++) {
-                String g = guesses.get(r);
-                List<LetterFeedback> row = fb.get(r);
-                for (int i = 0; i < 5; i++) {
-                    char ch = g.charAt(i); int idx = ch - 'A';
-                    if (row.get(i) == LetterFeedback.ABSENT && !seenGY[idx]) {
-                        C.max[idx] = 0;
-                        C.cannot[i].add(ch);
-                    }
-                }
-            }
-            return C;
-        }
+    /** Corpus words consistent with every row of feedback so far. */
+    public List<String> filterCandidates(List<String> guesses, List<List<LetterFeedback>> fb) {
+        if (guesses.isEmpty()) return new ArrayList<>(corpus);
+        return candidates(BitSet.valueOf(index.resolve(ConstraintState.of(guesses, fb))));
     }
 
-    private static List<String> loadWordList() {
-        List<String> words = new ArrayList<>();
-        try (InputStream in = HintEngine.class.getResourceAsStream("/wordlist.txt")) {
-            if (in == null) return words; // empty list
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-                String line; while ((line = br.readLine()) != null) {
-                    line = line.trim();
-                    if (line.length() == 5 && line.matches("[a-zA-Z]{5}")) words.add(line.toUpperCase());
-                }
-            }
-        } catch (IOException ignored) {}
+    // --- incremental candidate sets over corpus indices (see HintSession) ---
+
+    /** A fresh candidate set with every corpus word live. */
+    BitSet newCandidateSet() {
+        BitSet live = new BitSet(corpus.size());
+        live.set(0, corpus.size());
+        return live;
+    }
+
+    /** Narrows {@code live} by a single new row; rows are independent, so this equals a full refilter. */
+    void narrow(BitSet live, String guess, List<LetterFeedback> row) {
+        live.and(BitSet.valueOf(index.resolve(ConstraintState.of(List.of(guess), List.of(row)))));
+    }
+
+    List<String> candidates(BitSet live) {
+        List<String> out = new ArrayList<>(live.cardinality());
+        for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) out.add(corpus.get(i));
+        return out;
+    }
+
+    List<String> suggest(BitSet live, List<String> guesses, List<List<LetterFeedback>> fb, int k, Scoring mode) {
+        return cached(guesses, fb, k, mode, () -> rank(candidates(live), guesses, fb, k, mode));
+    }
+
+    private static List<String> loadWordList(String resourcePath) {
+        int[] packed = WordListFile.load(resourcePath);
+        if (packed == null) return new ArrayList<>(); // empty list
+        List<String> words = new ArrayList<>(packed.length);
+        for (int p : packed) words.add(PackedWord.unpack(p));
         return words;
     }
 }
@@ -0,0 +1,117 @@
+package org.example.wordle.model;
+
+import org.example.wordle.util.ModelListener;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous hints for one game. Requests return futures computed on a background
+ * executor; whenever the model changes, the outstanding computation is cancelled and
+ * the hints for the new position are started straight away, so a request made after
+ * thinking about the board usually completes immediately.
+ *
+ * Board state is captured on the thread that changes the model (the FX thread), so
+ * workers never read the model itself.
+ */
+public class HintService implements ModelListener, AutoCloseable {
+    private final HintEngine engine;
+    private final WordleModel model;
+    private final HintSession session;
+    private final ExecutorService executor;
+    private final int k;
+    private Pending current;
+
+    private record Pending(long version, HintEngine.Scoring mode, CompletableFuture<List<String>> result, Future<?> task) {
+        void cancel() {
+            result.cancel(false);
+            task.cancel(true);
+        }
+    }
+
+    public HintService(HintEngine engine, WordleModel model, ExecutorService executor, int k) {
+        this(engine, model, executor, k, null);
+    }
+
+    /**
+     * @param dispatch where model changes reach this service (e.g. {@code Platform::runLater}), so
+     *                 a burst of changes restarts the computation once; null reacts on the firing thread
+     */
+    public HintService(HintEngine engine, WordleModel model, ExecutorService executor, int k, Executor dispatch) {
+        this.engine = engine;
+        this.model = model;
+        this.executor = executor;
+        this.k = k;
+        this.session = new HintSession(engine, model); // registered first, so it narrows before we recompute
+        if (dispatch == null) model.addListener(this);
+        else model.addListener(this, dispatch);
+        start();
+    }
+
+    /** A bounded single-worker executor suitable for hint work (the engine parallelises internally). */
+    public static ExecutorService newExecutor() {
+        ThreadPoolExecutor ex = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(16), r -> {
+            Thread t = new Thread(r, "wordle-hints");
+            t.setDaemon(true);
+            return t;
+        });
+        ex.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return ex;
+    }
+
+    /** Hints for the current position; reuses the speculative result when it is still current. */
+    public synchronized CompletableFuture<List<String>> request() {
+        Pending p = current;
+        if (p != null && p.version() == model.snapshot().version() && p.mode() == engine.getScoring()
+                && !p.result().isCompletedExceptionally()) {
+            return p.result();
+        }
+        return start();
+    }
+
+    @Override
+    public synchronized void onModelChanged() {
+        if (model.getStatus() == GameStatus.IN_PROGRESS) start();
+        else if (current != null) { current.cancel(); current = null; }
+    }
+
+    @Override
+    public synchronized void close() {
+        model.removeListener(this);
+        session.close();
+        if (current != null) current.cancel();
+        current = null;
+    }
+
+    private synchronized CompletableFuture<List<String>> start() {
+        if (current != null) current.cancel(); // stale position
+        BoardSnapshot board = model.snapshot();
+        BitSet live = session.snapshot();
+        HintEngine.Scoring mode = engine.getScoring();
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                if (result.isDone()) return; // cancelled while queued
+                try {
+                    result.complete(engine.suggest(live, board.guesses(), board.feedback(), k, mode));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        current = new Pending(board.version(), mode, result, task);
+        return result;
+    }
+}
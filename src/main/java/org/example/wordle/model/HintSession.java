@@ -0,0 +1,64 @@
+package org.example.wordle.model;
+
+import org.example.wordle.util.ModelEvent;
+import org.example.wordle.util.ModelListener;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Live candidate set for one game. Instead of refiltering the whole corpus from every
+ * previous row, the set is narrowed by just the newest row whenever the model
+ * accepts a guess, and rebuilt whenever the model reports a {@link ModelEvent#RESET}
+ * (a new game, a restored one, or a batch of changes).
+ */
+public class HintSession implements ModelListener {
+    private final HintEngine engine;
+    private final WordleModel model;
+    private BitSet live;
+    private int rowsApplied;
+
+    public HintSession(HintEngine engine, WordleModel model) {
+        this.engine = engine;
+        this.model = model;
+        this.live = engine.newCandidateSet();
+        model.addListener(this);
+        catchUp();
+    }
+
+    @Override public void onModelChanged() { catchUp(); }
+
+    @Override
+    public synchronized void onModelEvent(ModelEvent event) {
+        if (event.type() == ModelEvent.Type.RESET) {
+            live = engine.newCandidateSet();
+            rowsApplied = 0;
+        }
+        if (event.changesGame()) catchUp();
+    }
+
+    public synchronized List<String> candidates() { return engine.candidates(live); }
+
+    public synchronized int candidateCount() { return live.cardinality(); }
+
+    /** Copy of the live set, safe to hand to another thread. */
+    synchronized BitSet snapshot() { return (BitSet) live.clone(); }
+
+    public List<String> suggest(int k) { return suggest(k, engine.getScoring()); }
+
+    public synchronized List<String> suggest(int k, HintEngine.Scoring mode) {
+        BoardSnapshot board = model.snapshot();
+        return engine.suggest(live, board.guesses(), board.feedback(), k, mode);
+    }
+
+    /** Stops tracking the model. */
+    public void close() { model.removeListener(this); }
+
+    private synchronized void catchUp() {
+        int turns = model.turnsTaken();
+        if (turns <= rowsApplied) return;
+        BoardSnapshot board = model.snapshot();
+        for (int r = rowsApplied; r < turns; r++) engine.narrow(live, board.guesses().get(r), board.feedback().get(r));
+        rowsApplied = turns;
+    }
+}
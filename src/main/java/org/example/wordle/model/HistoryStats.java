@@ -0,0 +1,140 @@
+package org.example.wordle.model;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Running aggregates over the game history: streaks, per-secret solve rates and guess
+ * distributions, hour-of-day and hard/normal splits. Each {@link #record} is O(1), so the
+ * history is scanned once and every read after that is cheap however many games there are.
+ * Guess percentiles are exact: wins take 1..6 guesses, so a histogram is the whole distribution.
+ * Not thread-safe; like {@link WordleModel}, confine it to one thread.
+ */
+public class HistoryStats {
+    /** Games, wins and wins in 1..6 guesses for one secret or one slice of the history. */
+    public static final class Tally {
+        int games, wins;
+        final int[] dist = new int[WordleModel.MAX_TURNS];
+
+        void add(GameRecord g) {
+            games++;
+            if (g.won()) {
+                wins++;
+                if (g.turns() >= 1 && g.turns() <= dist.length) dist[g.turns() - 1]++;
+            }
+        }
+
+        public int games() { return games; }
+        public int wins() { return wins; }
+        public int[] distribution() { return dist.clone(); }
+        public double solveRate() { return games == 0 ? 0.0 : wins / (double) games; }
+
+        /** Fewest guesses that cover fraction {@code p} (0..1] of wins; 0 if there are none. */
+        public int percentile(double p) {
+            if (wins == 0) return 0;
+            long need = Math.max(1, (long) Math.ceil(p * wins));
+            long seen = 0;
+            for (int i = 0; i < dist.length; i++) {
+                seen += dist[i];
+                if (seen >= need) return i + 1;
+            }
+            return dist.length;
+        }
+
+        /** {@code games, wins, d1..d6}, as saved by {@code HistoryStatsIO}. */
+        public int[] values() {
+            int[] v = new int[2 + dist.length];
+            v[0] = games;
+            v[1] = wins;
+            System.arraycopy(dist, 0, v, 2, dist.length);
+            return v;
+        }
+
+        /** Overwrites this tally with saved {@link #values()}. */
+        public void load(int[] v) {
+            games = v[0];
+            wins = v[1];
+            System.arraycopy(v, 2, dist, 0, Math.min(dist.length, v.length - 2));
+        }
+    }
+
+    /** A secret with its tally, for {@link #hardestWords}. */
+    public record WordTally(String word, Tally tally) {}
+
+    private final ZoneId zone;
+    private long count;                // games folded in so far == history rows covered
+    private int currentStreak, maxStreak;
+    private final Tally all = new Tally(), normal = new Tally(), hard = new Tally();
+    private final Tally[] byHour = new Tally[24];
+    private final Map<Integer, Tally> byWord = new HashMap<>();
+
+    public HistoryStats(ZoneId zone) {
+        this.zone = zone;
+        for (int h = 0; h < byHour.length; h++) byHour[h] = new Tally();
+    }
+
+    /** Folds in the next game of the history. */
+    public void record(GameRecord g) {
+        count++;
+        currentStreak = g.won() ? currentStreak + 1 : 0;
+        maxStreak = Math.max(maxStreak, currentStreak);
+        all.add(g);
+        (g.hardMode() ? hard : normal).add(g);
+        byHour[Instant.ofEpochMilli(g.timeMillis()).atZone(zone).getHour()].add(g);
+        byWord.computeIfAbsent(g.secret(), k -> new Tally()).add(g);
+    }
+
+    public ZoneId zone() { return zone; }
+
+    /** Number of games recorded; equals the history row these aggregates are current up to. */
+    public long count() { return count; }
+    public int currentStreak() { return currentStreak; }
+    public int maxStreak() { return maxStreak; }
+    public Tally all() { return all; }
+    public Tally normalMode() { return normal; }
+    public Tally hardMode() { return hard; }
+
+    /** Games that ended in hour {@code hour} (0..23) of the local day. */
+    public Tally hour(int hour) { return byHour[hour]; }
+
+    /** Tally for {@code word}, or an empty one if it was never the secret. */
+    public Tally word(String word) {
+        Tally t = byWord.get(PackedWord.pack(word));
+        return t != null ? t : new Tally();
+    }
+
+    public int distinctWords() { return byWord.size(); }
+
+    /** Up to {@code n} secrets played at least {@code minGames} times, lowest solve rate first. */
+    public List<WordTally> hardestWords(int n, int minGames) {
+        List<Map.Entry<Integer, Tally>> played = new ArrayList<>();
+        for (var e : byWord.entrySet()) if (e.getValue().games >= minGames) played.add(e);
+        played.sort(Comparator.comparingDouble((Map.Entry<Integer, Tally> e) -> e.getValue().solveRate())
+                .thenComparing(e -> -e.getValue().games)
+                .thenComparing(Map.Entry::getKey));
+        List<WordTally> out = new ArrayList<>();
+        for (var e : played.subList(0, Math.min(n, played.size()))) out.add(new WordTally(PackedWord.unpack(e.getKey()), e.getValue()));
+        return out;
+    }
+
+    /** Per-secret tallies keyed by packed word, read-only. */
+    public Map<Integer, Tally> words() { return Collections.unmodifiableMap(byWord); }
+
+    /** Tally for a packed secret, created if absent; for restoring saved aggregates. */
+    public Tally wordTally(int secret) {
+        return byWord.computeIfAbsent(secret, k -> new Tally());
+    }
+
+    /** Restores the counters of aggregates saved after {@code count} games. */
+    public void restore(long count, int currentStreak, int maxStreak) {
+        this.count = count;
+        this.currentStreak = currentStreak;
+        this.maxStreak = maxStreak;
+    }
+}
@@ -3,18 +3,51 @@ package org.example.wordle.model;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Best feedback seen per letter, one byte per letter (0 = unused, then ABSENT &lt; PRESENT
+ * &lt; CORRECT), plus a mask of the letters whose colour changed in the last batch of
+ * upgrades, so a keyboard view can restyle just those keys.
+ */
 public class KeyboardState {
-    private final Map<Character, LetterFeedback> status = new HashMap<>();
+    private static final LetterFeedback[] BY_LEVEL = { null, LetterFeedback.ABSENT, LetterFeedback.PRESENT, LetterFeedback.CORRECT };
 
-    public Map<Character, LetterFeedback> snapshot() { return new HashMap<>(status); }
+    private final byte[] level = new byte[26];
+    private int changed; // bit i = letter 'A' + i
+
+    public Map<Character, LetterFeedback> snapshot() {
+        Map<Character, LetterFeedback> out = new HashMap<>();
+        for (int i = 0; i < 26; i++) if (level[i] != 0) out.put((char) ('A' + i), BY_LEVEL[level[i]]);
+        return out;
+    }
+
+    /** Best feedback seen for {@code c}, or null if it has not been guessed. */
+    public LetterFeedback get(char c) {
+        int i = PackedWord.letterCode(c);
+        return i < 0 ? null : BY_LEVEL[level[i]];
+    }
 
     public void upgrade(char c, LetterFeedback fb) {
-        c = Character.toUpperCase(c);
-        LetterFeedback current = status.get(c);
-        if (current == null || precedence(fb) > precedence(current)) status.put(c, fb);
+        int i = PackedWord.letterCode(c);
+        if (i < 0) return;
+        byte next = (byte) precedence(fb);
+        if (next > level[i]) {
+            level[i] = next;
+            changed |= 1 << i;
+        }
     }
 
-    public void clear() { status.clear(); }
+    public void clear() {
+        for (int i = 0; i < 26; i++) {
+            if (level[i] != 0) changed |= 1 << i;
+            level[i] = 0;
+        }
+    }
+
+    /** Starts a new batch of upgrades: forgets which letters changed before. */
+    public void beginBatch() { changed = 0; }
+
+    /** Letters whose feedback changed since {@link #beginBatch()}; bit i is letter 'A' + i. */
+    public int changedLetters() { return changed; }
 
     private int precedence(LetterFeedback fb) {
         switch (fb) {
@@ -24,4 +57,4 @@ public class KeyboardState {
         }
         return 0;
     }
-}
\ No newline at end of file
+}
@@ -13,7 +13,12 @@ public class OpenDictionary implements Dictionary {
 
     @Override
     public boolean isValidWord(String word) {
-        return word != null && word.matches("[A-Za-z]{5}");
+        return PackedWord.pack(word) != PackedWord.INVALID;
+    }
+
+    @Override
+    public boolean isValidPacked(int packed) {
+        return packed != PackedWord.INVALID;
     }
 
     @Override
@@ -0,0 +1,44 @@
+package org.example.wordle.model;
+
+/**
+ * Packed word encoding: a 5-letter word stored in one int as five 5-bit letter codes
+ * (A=0 .. Z=25), first letter in the most significant slot so packed values sort
+ * in the same order as the words themselves.
+ */
+public final class PackedWord {
+    public static final int INVALID = -1;
+    static final int BITS = 5;
+    static final int MASK = 0x1F;
+
+    private PackedWord() {}
+
+    /** Packs a 5-letter A–Z word (either case) in one pass; returns {@link #INVALID} otherwise. */
+    public static int pack(CharSequence word) {
+        if (word == null || word.length() != WordleModel.WORD_LENGTH) return INVALID;
+        int packed = 0;
+        for (int i = 0; i < WordleModel.WORD_LENGTH; i++) {
+            int code = letterCode(word.charAt(i));
+            if (code < 0) return INVALID;
+            packed = (packed << BITS) | code;
+        }
+        return packed;
+    }
+
+    public static String unpack(int packed) {
+        char[] out = new char[WordleModel.WORD_LENGTH];
+        for (int i = 0; i < WordleModel.WORD_LENGTH; i++) out[i] = (char) ('A' + letterAt(packed, i));
+        return new String(out);
+    }
+
+    /** Letter code (0..25) at position {@code i} of a packed word. */
+    public static int letterAt(int packed, int i) {
+        return (packed >>> (BITS * (WordleModel.WORD_LENGTH - 1 - i))) & MASK;
+    }
+
+    /** 0..25 for A–Z / a–z, -1 for anything else. */
+    static int letterCode(char ch) {
+        if (ch >= 'A' && ch <= 'Z') return ch - 'A';
+        if (ch >= 'a' && ch <= 'z') return ch - 'a';
+        return -1;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.wordle.model;
+
+import java.util.Arrays;
+
+/**
+ * Primitive open-addressing hash set of {@link PackedWord} values (linear probing,
+ * power-of-two table kept at most half full). Lookups allocate nothing.
+ */
+public final class PackedWordSet {
+    private static final int EMPTY = -1; // packed words are never negative
+
+    private int[] table;
+    private int size;
+
+    public PackedWordSet(int expected) {
+        table = new int[tableSizeFor(expected)];
+        Arrays.fill(table, EMPTY);
+    }
+
+    public static PackedWordSet of(int[] packed) {
+        PackedWordSet set = new PackedWordSet(packed.length);
+        for (int p : packed) set.add(p);
+        return set;
+    }
+
+    /** Adds a packed word; returns false if it was already present. Invalid values are rejected. */
+    public boolean add(int packed) {
+        if (packed < 0) throw new IllegalArgumentException("Not a packed word: " + packed);
+        if (2 * (size + 1) > table.length) grow();
+        int mask = table.length - 1;
+        for (int i = slot(packed, mask); ; i = (i + 1) & mask) {
+            if (table[i] == packed) return false;
+            if (table[i] == EMPTY) {
+                table[i] = packed;
+                size++;
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(int packed) {
+        if (packed < 0) return false;
+        int mask = table.length - 1;
+        for (int i = slot(packed, mask); ; i = (i + 1) & mask) {
+            int v = table[i];
+            if (v == packed) return true;
+            if (v == EMPTY) return false;
+        }
+    }
+
+    public int size() { return size; }
+
+    /** Members in ascending order. */
+    public int[] toSortedArray() {
+        int[] out = new int[size];
+        int n = 0;
+        for (int v : table) if (v != EMPTY) out[n++] = v;
+        Arrays.sort(out);
+        return out;
+    }
+
+    private void grow() {
+        int[] old = table;
+        table = new int[old.length * 2];
+        Arrays.fill(table, EMPTY);
+        size = 0;
+        for (int v : old) if (v != EMPTY) add(v);
+    }
+
+    private static int slot(int packed, int mask) {
+        int h = packed * 0x9E3779B9; // Fibonacci hashing spreads the 5-bit letter fields
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int tableSizeFor(int expected) {
+        int n = 16;
+        while (n < 2 * expected) n <<= 1;
+        return n;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.wordle.model;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Precompiled word lists. Each text resource {@code name.txt} may have a sibling
+ * {@code name.bin} generated at build time (see the exec step in pom.xml):
+ * int MAGIC, int VERSION, int count, int crc32 of the word section, long source
+ * text timestamp, then count sorted {@link PackedWord} ints (big-endian).
+ *
+ * Loading prefers the binary file (one bulk read) and falls back to parsing the
+ * text when the binary is missing, corrupt, or older than the text it came from.
+ */
+public final class WordListFile {
+    private static final int MAGIC = 0x574C5354; // "WLST"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+
+    private WordListFile() {}
+
+    /** Sorted, de-duplicated packed words of a text resource, or null if the resource does not exist. */
+    public static int[] load(String textResource) {
+        URL text = WordListFile.class.getResource(textResource);
+        URL bin = WordListFile.class.getResource(binaryName(textResource));
+        if (bin != null) {
+            try (InputStream in = bin.openStream()) {
+                ByteBuffer buf = ByteBuffer.wrap(in.readAllBytes());
+                int[] words = readBinary(buf);
+                if (words != null && (text == null || buf.getLong(16) >= lastModified(text))) return words;
+            } catch (IOException ignored) { /* fall back to text */ }
+        }
+        if (text == null) return null;
+        try (InputStream in = text.openStream()) {
+            return readText(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** Parses one word per line; lines that are not 5 plain letters are skipped. */
+    public static int[] readText(InputStream in) throws IOException {
+        PackedWordSet seen = new PackedWordSet(1024);
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                int p = PackedWord.pack(line.trim());
+                if (p != PackedWord.INVALID) seen.add(p);
+            }
+        }
+        return seen.toSortedArray();
+    }
+
+    /** Words from a binary image, or null if the header or checksum does not match. */
+    public static int[] readBinary(ByteBuffer buf) {
+        if (buf.remaining() < HEADER_BYTES) return null;
+        if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) return null;
+        int count = buf.getInt(8);
+        if (count < 0 || buf.remaining() != HEADER_BYTES + 4L * count) return null;
+        CRC32 crc = new CRC32();
+        crc.update(buf.slice(HEADER_BYTES, 4 * count));
+        if ((int) crc.getValue() != buf.getInt(12)) return null;
+        int[] words = new int[count];
+        buf.slice(HEADER_BYTES, 4 * count).asIntBuffer().get(words);
+        return words;
+    }
+
+    public static void write(OutputStream os, int[] sortedPacked, long sourceModified) throws IOException {
+        ByteBuffer body = ByteBuffer.allocate(4 * sortedPacked.length);
+        body.asIntBuffer().put(sortedPacked);
+        CRC32 crc = new CRC32();
+        crc.update(body.array());
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(sortedPacked.length);
+        out.writeInt((int) crc.getValue());
+        out.writeLong(sourceModified);
+        out.write(body.array());
+        out.flush();
+    }
+
+    static String binaryName(String textResource) {
+        return textResource.endsWith(".txt")
+                ? textResource.substring(0, textResource.length() - 4) + ".bin"
+                : textResource + ".bin";
+    }
+
+    private static long lastModified(URL url) throws IOException {
+        URLConnection c = url.openConnection();
+        c.setUseCaches(false);
+        try {
+            return c.getLastModified();
+        } finally {
+            c.getInputStream().close(); // release the file handle / jar entry
+        }
+    }
+
+    /**
+     * Build step: {@code WordListFile OUTPUT_DIR NAME.txt ...} compiles each text list
+     * in OUTPUT_DIR to a sibling NAME.bin.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) throw new IllegalArgumentException("Usage: WordListFile OUTPUT_DIR NAME.txt ...");
+        Path dir = Path.of(args[0]);
+        for (String name : Arrays.copyOfRange(args, 1, args.length)) {
+            Path text = dir.resolve(name);
+            int[] words;
+            try (InputStream in = Files.newInputStream(text)) { words = readText(in); }
+            Path bin = dir.resolve(binaryName(name));
+            try (OutputStream out = Files.newOutputStream(bin)) {
+                write(out, words, Files.getLastModifiedTime(text).toMillis());
+            }
+            System.out.println("Compiled " + words.length + " words: " + bin);
+        }
+    }
+}
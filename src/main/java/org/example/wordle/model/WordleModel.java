@@ -1,5 +1,6 @@
 package org.example.wordle.model;
 
+import org.example.wordle.util.ModelEvent;
 import org.example.wordle.util.ObservableModel;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,12 +17,17 @@ public class WordleModel extends ObservableModel {
     private final KeyboardState keyboard = new KeyboardState();
     private GameStatus status = GameStatus.IN_PROGRESS;
     private boolean hardMode = false; // Hard Mode: reuse revealed letters
+    private boolean strictHardMode = false; // also keep letters out of positions ruled out for them
+    private ConstraintState constraints = new ConstraintState(); // updated once per accepted guess
+    private long version;
+    private String preview = ""; // letters typed for the next row, not yet submitted
+    private volatile BoardSnapshot snapshot; // built lazily, dropped on every change
 
     public WordleModel(Dictionary dictionary, String fixedSecretOrNull) {
         this.dictionary = dictionary;
         this.secret = (fixedSecretOrNull != null) ? fixedSecretOrNull.toUpperCase() : dictionary.randomSecret();
         if (secret.length() != WORD_LENGTH) throw new IllegalArgumentException("Secret must be 5 letters");
-        if (!secret.matches("[A-Z]{5}")) throw new IllegalArgumentException("Secret must be letters only");
+        if (PackedWord.pack(secret) == PackedWord.INVALID) throw new IllegalArgumentException("Secret must be letters only");
     }
 
     public WordleModel(Dictionary dictionary) {
@@ -37,12 +43,36 @@ public class WordleModel extends ObservableModel {
         return status;
     }
 
+    /** Unmodifiable guesses; the same list until the model changes. */
     public List<String> getGuesses() {
-        return new ArrayList<>(guesses);
+        return snapshot().guesses();
     }
 
+    /** Unmodifiable feedback rows; the same list until the model changes. */
     public List<List<LetterFeedback>> getFeedback() {
-        return new ArrayList<>(feedback);
+        return snapshot().feedback();
+    }
+
+    /** Current state as an immutable snapshot, reused until the next change. */
+    public BoardSnapshot snapshot() {
+        BoardSnapshot s = snapshot;
+        if (s == null) {
+            s = new BoardSnapshot(version, List.copyOf(guesses), List.copyOf(feedback), status, hardMode);
+            snapshot = s;
+        }
+        return s;
+    }
+
+    /** Letters typed for the next row; not part of the game state or its snapshot. */
+    public String getPreview() {
+        return preview;
+    }
+
+    public void setPreview(String text) {
+        String next = text == null ? "" : text.toUpperCase();
+        if (next.equals(preview)) return;
+        preview = next;
+        fireEvent(ModelEvent.previewChanged(guesses.size()));
     }
 
     public KeyboardState getKeyboard() {
@@ -55,85 +85,126 @@ public class WordleModel extends ObservableModel {
 
     // ----- Modes -----
     public void setHardMode(boolean enabled) {
-        this.hardMode = enabled;
+        setModes(enabled, enabled && strictHardMode);
     }
 
     public boolean isHardMode() {
         return hardMode;
     }
 
+    /** Strict hard mode implies hard mode and also forbids letters in positions already ruled out for them. */
+    public void setStrictHardMode(boolean enabled) {
+        setModes(hardMode || enabled, enabled);
+    }
+
+    public boolean isStrictHardMode() {
+        return strictHardMode;
+    }
+
+    private void setModes(boolean hard, boolean strict) {
+        if (hard == hardMode && strict == strictHardMode) return;
+        hardMode = hard;
+        strictHardMode = strict;
+        changed();
+        fireEvent(ModelEvent.MODE_CHANGED);
+    }
+
+    /** What the feedback so far implies about the secret; read-only outside the model package. */
+    public ConstraintState getConstraints() {
+        return constraints;
+    }
+
     // ----- Game API -----
     public List<LetterFeedback> submitGuess(String guess) {
         if (status != GameStatus.IN_PROGRESS) throw new IllegalStateException("Game over");
         if (guess == null || guess.length() != WORD_LENGTH)
             throw new IllegalArgumentException("Guess must be 5 letters");
+        int packed = PackedWord.pack(guess);
+        if (packed == PackedWord.INVALID) throw new IllegalArgumentException("Guess must be A-Z only");
+        if (!dictionary.isValidPacked(packed)) throw new IllegalArgumentException("Not in word list");
         guess = guess.toUpperCase();
-        if (!guess.matches("[A-Z]{5}")) throw new IllegalArgumentException("Guess must be A-Z only");
-        if (!dictionary.isValidWord(guess)) throw new IllegalArgumentException("Not in word list");
-        if (hardMode) enforceHardMode(guess);
+        if (hardMode) {
+            String violation = constraints.hardModeViolation(guess, strictHardMode);
+            if (violation != null) throw new IllegalArgumentException(violation);
+        }
 
-        List<LetterFeedback> row = evaluate(guess, secret);
+        List<LetterFeedback> row = FeedbackPattern.decode(evaluatePacked(packed, PackedWord.pack(secret)));
         guesses.add(guess);
         feedback.add(row);
+        constraints.apply(guess, row);
+        keyboard.beginBatch();
         for (int i = 0; i < WORD_LENGTH; i++) keyboard.upgrade(guess.charAt(i), row.get(i));
 
         if (guess.equals(secret)) status = GameStatus.WON;
         else if (guesses.size() >= MAX_TURNS) status = GameStatus.LOST;
 
-        notifyListeners();
+        changed();
+        fireEvent(ModelEvent.rowSubmitted(guesses.size() - 1));
+        if (status != GameStatus.IN_PROGRESS) fireEvent(ModelEvent.STATUS_CHANGED);
         return row;
     }
 
     public void reset(String fixedSecretOrNull) {
         guesses.clear();
         feedback.clear();
+        keyboard.beginBatch();
         keyboard.clear();
+        constraints = new ConstraintState();
         status = GameStatus.IN_PROGRESS;
         secret = (fixedSecretOrNull != null) ? fixedSecretOrNull.toUpperCase() : dictionary.randomSecret();
+        preview = "";
+        changed();
         notifyListeners();
     }
 
-    private void enforceHardMode(String guess) {
-// Build constraints from previous feedback (greens fixed; min counts for green+yellow letters)
-        char[] mustAt = new char[WORD_LENGTH];
-        int[] minCount = new int[26];
-        for (int r = 0; r < guesses.size(); r++) {
-            String g = guesses.get(r);
-            List<LetterFeedback> row = feedback.get(r);
-            int[] gyRow = new int[26];
-            for (int i = 0; i < WORD_LENGTH; i++) {
-                char ch = g.charAt(i);
-                int idx = ch - 'A';
-                switch (row.get(i)) {
-                    case CORRECT -> {
-                        mustAt[i] = ch;
-                        gyRow[idx]++;
-                    }
-                    case PRESENT -> {
-                        gyRow[idx]++;
-                    }
-                    default -> {
-                    }
-                }
-            }
-            for (int L = 0; L < 26; L++) if (gyRow[L] > minCount[L]) minCount[L] = gyRow[L];
-        }
-// positional greens must be reused
-        for (int i = 0; i < WORD_LENGTH; i++) {
-            if (mustAt[i] != 0 && guess.charAt(i) != mustAt[i])
-                throw new IllegalArgumentException("Hard mode: position " + (i + 1) + " must be '" + mustAt[i] + "'");
-        }
-// include at least the known count of each discovered letter
-        int[] cnt = new int[26];
-        for (int i = 0; i < WORD_LENGTH; i++) cnt[guess.charAt(i) - 'A']++;
-        for (int L = 0; L < 26; L++) {
-            if (cnt[L] < minCount[L]) {
-                char ch = (char) ('A' + L);
-                int need = minCount[L];
-                if (need == 1) throw new IllegalArgumentException("Hard mode: must include '" + ch + "'");
-                else throw new IllegalArgumentException("Hard mode: must include " + need + " '" + ch + "' letters");
-            }
+    // ----- Compact state (see GameState) -----
+
+    /** Packs this game into a {@link GameState}; listeners are not part of it. */
+    public GameState dehydrate() {
+        int[] packed = new int[guesses.size()];
+        for (int i = 0; i < packed.length; i++) packed[i] = PackedWord.pack(guesses.get(i));
+        return GameState.of(PackedWord.pack(secret), packed, packed.length, status, hardMode, strictHardMode);
+    }
+
+    /** A new model positioned exactly at {@code state}. */
+    public static WordleModel hydrate(Dictionary dictionary, GameState state) {
+        WordleModel model = new WordleModel(dictionary, PackedWord.unpack(state.secret()));
+        model.restore(state);
+        return model;
+    }
+
+    /**
+     * Replaces this game with {@code state} without re-validating the guesses: they were
+     * accepted when played. Feedback is recomputed from the secret.
+     */
+    public void restore(GameState state) {
+        guesses.clear();
+        feedback.clear();
+        keyboard.beginBatch();
+        keyboard.clear();
+        constraints = new ConstraintState();
+        secret = PackedWord.unpack(state.secret());
+        int s = state.secret();
+        for (int i = 0; i < state.guessCount(); i++) {
+            int g = state.guess(i);
+            String guess = PackedWord.unpack(g);
+            List<LetterFeedback> row = FeedbackPattern.decode(evaluatePacked(g, s));
+            guesses.add(guess);
+            feedback.add(row);
+            constraints.apply(guess, row);
+            for (int j = 0; j < WORD_LENGTH; j++) keyboard.upgrade(guess.charAt(j), row.get(j));
         }
+        status = state.status();
+        hardMode = state.hardMode();
+        strictHardMode = state.strictHardMode();
+        preview = "";
+        changed();
+        notifyListeners();
+    }
+
+    private void changed() {
+        version++;
+        snapshot = null;
     }
 
     public static List<LetterFeedback> evaluate(String guess, String secret) {
@@ -158,4 +229,32 @@ public class WordleModel extends ObservableModel {
         }
         return Arrays.asList(fb);
     }
+
+    /**
+     * Allocation-free counterpart of {@link #evaluate(String, String)} over {@link PackedWord}
+     * values; returns the {@link FeedbackPattern} code of the row.
+     */
+    public static int evaluatePacked(int guess, int secret) {
+        int code = 0;
+        int green = 0; // positions matched exactly
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (PackedWord.letterAt(guess, i) == PackedWord.letterAt(secret, i)) {
+                green |= 1 << i;
+                code += 2 * FeedbackPattern.POW3[i];
+            }
+        }
+        int used = green; // secret positions already consumed by a green or yellow
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if ((green & (1 << i)) != 0) continue;
+            int g = PackedWord.letterAt(guess, i);
+            for (int j = 0; j < WORD_LENGTH; j++) {
+                if ((used & (1 << j)) == 0 && PackedWord.letterAt(secret, j) == g) {
+                    used |= 1 << j;
+                    code += FeedbackPattern.POW3[i];
+                    break;
+                }
+            }
+        }
+        return code;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,248 @@
+package org.example.wordle.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.wordle.model.BoardSnapshot;
+import org.example.wordle.model.ConcurrentStats;
+import org.example.wordle.model.Dictionary;
+import org.example.wordle.model.DictionaryRegistry;
+import org.example.wordle.model.GameState;
+import org.example.wordle.model.GameStatus;
+import org.example.wordle.model.HintCache;
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.model.WordleModel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Headless multi-session server over the JDK's built-in HTTP server.
+ *
+ * <pre>
+ * POST   /sessions[?hard=true]          create a game        -> 201 state
+ * GET    /sessions/{id}                 current state        -> 200 state
+ * POST   /sessions/{id}/guess           body: the word       -> 200 state (400 rejected, 409 game over)
+ * GET    /sessions/{id}/hints[?k=5&amp;mode=ENTROPY]          -> 200 {"hints":[...]}
+ * DELETE /sessions/{id}                 end the session      -> 200 final state
+ * </pre>
+ */
+public class GameServer {
+    static {
+        // the JDK server writes headers and body separately; without this, Nagle plus
+        // delayed ACKs add ~40 ms to every keep-alive response
+        if (System.getProperty("sun.net.httpserver.nodelay") == null)
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer http;
+    private final ExecutorService workers;
+    private final SessionStore sessions;
+    private final Dictionary dictionary;
+    private final HintEngine engine;
+    private final IdleSessionStore idle;
+    private final long parkAfterMillis;
+    private final ScheduledExecutorService sweeper;
+    private final ConcurrentStats stats = new ConcurrentStats();
+
+    public GameServer(int port, int threads, Dictionary dictionary, HintEngine engine) throws IOException {
+        this(port, threads, dictionary, engine, new IdleSessionStore(100_000, TimeUnit.DAYS.toMillis(1)), TimeUnit.MINUTES.toMillis(5));
+    }
+
+    /**
+     * @param idle where games untouched for {@code parkAfterMillis} are kept in compact form
+     *             until their next request, their TTL, or eviction
+     */
+    public GameServer(int port, int threads, Dictionary dictionary, HintEngine engine,
+                      IdleSessionStore idle, long parkAfterMillis) throws IOException {
+        this.dictionary = dictionary;
+        this.engine = engine;
+        this.idle = idle;
+        this.parkAfterMillis = parkAfterMillis;
+        this.sessions = new SessionStore(Math.max(16, threads * 4));
+        this.http = HttpServer.create(new InetSocketAddress(port), 1024);
+        // Handlers never block on I/O beyond the exchange itself, so a fixed pool sized
+        // to the load is enough (on Java 21+ a virtual-thread-per-task executor drops in here).
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "wordle-http");
+            t.setDaemon(true);
+            return t;
+        });
+        http.setExecutor(workers);
+        http.createContext("/sessions", this::handle);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wordle-idle-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void start() {
+        http.start();
+        long period = Math.max(1000, parkAfterMillis / 4);
+        sweeper.scheduleWithFixedDelay(() -> {
+            parkIdleSessions();
+            idle.expire();
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        http.stop(0);
+        sweeper.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public int port() { return http.getAddress().getPort(); }
+
+    public SessionStore sessions() { return sessions; }
+
+    public IdleSessionStore idleSessions() { return idle; }
+
+    /** Results of every game finished on this server. */
+    public ConcurrentStats stats() { return stats; }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try (ex) {
+            try {
+                route(ex);
+            } catch (NoSuchElementException e) {
+                send(ex, 404, Json.error(e.getMessage()));
+            } catch (IllegalStateException e) {
+                send(ex, 409, Json.error(e.getMessage()));
+            } catch (IllegalArgumentException e) { // rejected guess, bad k or mode
+                send(ex, 400, Json.error(e.getMessage()));
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                send(ex, 500, Json.error("Internal error"));
+            }
+        }
+    }
+
+    private void route(HttpExchange ex) throws IOException {
+        String[] parts = ex.getRequestURI().getPath().split("/"); // "", "sessions", id, action
+        String method = ex.getRequestMethod();
+        Map<String, String> query = query(ex.getRequestURI().getRawQuery());
+        if (parts.length < 2 || !parts[1].equals("sessions")) { send(ex, 404, Json.error("Unknown endpoint")); return; }
+        if (parts.length == 2) {
+            if (!method.equals("POST")) { send(ex, 405, Json.error("Use POST to create a session")); return; }
+            boolean hard = Boolean.parseBoolean(query.get("hard"));
+            GameSession s = sessions.create(id -> {
+                WordleModel model = new WordleModel(dictionary);
+                model.setHardMode(hard);
+                return new GameSession(id, model, engine);
+            });
+            send(ex, 201, s.toJson());
+            return;
+        }
+        String id = parts[2];
+        String action = parts.length > 3 ? parts[3] : "";
+        switch (method + " " + action) {
+            case "GET " -> send(ex, 200, withSession(id, GameSession::toJson));
+            case "DELETE " -> {
+                String last = withSession(id, gs -> {
+                    gs.retire();
+                    return gs.toJson();
+                });
+                sessions.remove(id);
+                send(ex, 200, last); // final state; also sidesteps JDK client keep-alive trouble after 204
+            }
+            case "POST guess" -> {
+                String word = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+                send(ex, 200, withSession(id, gs -> {
+                    gs.guess(word);
+                    BoardSnapshot board = gs.snapshot();
+                    if (board.status() != GameStatus.IN_PROGRESS) stats.recordGame(board.status(), board.turns());
+                    return gs.toJson();
+                }));
+            }
+            case "GET hints" -> {
+                int k = Math.max(1, Math.min(Integer.parseInt(query.getOrDefault("k", "5")), 50));
+                HintEngine.Scoring mode = query.containsKey("mode")
+                        ? HintEngine.Scoring.valueOf(query.get("mode").toUpperCase()) : engine.getScoring();
+                List<String> hints = withSession(id, gs -> gs.hints(k, mode));
+                send(ex, 200, "{\"hints\":" + Json.array(hints) + "}");
+            }
+            default -> send(ex, 404, Json.error("Unknown endpoint"));
+        }
+    }
+
+    /**
+     * Runs {@code op} on the live session, unparking it from the idle store if needed.
+     * Retries if the session is parked or deleted between lookup and lock.
+     */
+    private <T> T withSession(String id, Function<GameSession, T> op) {
+        while (true) {
+            GameSession s = sessions.getOrLoad(id, this::unpark);
+            if (s == null) throw new NoSuchElementException("No such session");
+            synchronized (s) {
+                if (!s.isRetired()) return op.apply(s);
+            }
+        }
+    }
+
+    private GameSession unpark(String id) {
+        long key;
+        try { key = Long.parseLong(id, 16); } catch (NumberFormatException e) { return null; }
+        if (key < 0) return null;
+        GameState state = idle.take(key);
+        return state == null ? null : new GameSession(id, WordleModel.hydrate(dictionary, state), engine);
+    }
+
+    /** Moves sessions untouched for {@code parkAfterMillis} into the idle store; returns how many. */
+    public int parkIdleSessions() {
+        long cutoff = System.currentTimeMillis() - parkAfterMillis;
+        return sessions.parkIdle(cutoff, (id, state) -> idle.park(Long.parseLong(id, 16), state));
+    }
+
+    private static void send(HttpExchange ex, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) { out.write(bytes); }
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> out = new HashMap<>();
+        if (raw == null) return out;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            out.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return out;
+    }
+
+    /** Usage: {@code GameServer [--port 8080] [--threads N] [--idle-capacity 100000] [--park-after-seconds 300]}. */
+    public static void main(String[] args) throws IOException {
+        int port = 8080, threads = 4 * Runtime.getRuntime().availableProcessors(), idleCapacity = 100_000;
+        long parkAfterSeconds = 300;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--idle-capacity" -> idleCapacity = Integer.parseInt(args[++i]);
+                case "--park-after-seconds" -> parkAfterSeconds = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        DictionaryRegistry registry = DictionaryRegistry.shared();
+        HintEngine engine = registry.hintEngine();
+        engine.setCache(new HintCache(16_384)); // boards repeat a lot across players
+        GameServer server = new GameServer(port, threads, registry.allowList(), engine,
+                new IdleSessionStore(idleCapacity, TimeUnit.DAYS.toMillis(1)), TimeUnit.SECONDS.toMillis(parkAfterSeconds));
+        server.start();
+        System.out.printf("Wordle server on http://localhost:%d/sessions (%d worker threads)%n", server.port(), threads);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.wordle.server;
+
+import org.example.wordle.model.BoardSnapshot;
+import org.example.wordle.model.GameState;
+import org.example.wordle.model.GameStatus;
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.model.HintSession;
+import org.example.wordle.model.LetterFeedback;
+import org.example.wordle.model.WordleModel;
+
+import java.util.List;
+
+/**
+ * One player's game on the server. {@link WordleModel} is single-threaded, so every
+ * access goes through this object's monitor; requests for different sessions never contend.
+ */
+public final class GameSession {
+    private final String id;
+    private final WordleModel model;
+    private final HintEngine engine;
+    private HintSession hints; // created on the first hint request
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+    private boolean retired; // parked or deleted: callers must look the id up again
+
+    GameSession(String id, WordleModel model, HintEngine engine) {
+        this.id = id;
+        this.model = model;
+        this.engine = engine;
+    }
+
+    public String id() { return id; }
+
+    public long lastAccessMillis() { return lastAccessMillis; }
+
+    /** True once parked or deleted; guarded by this session's monitor. */
+    synchronized boolean isRetired() { return retired; }
+
+    /** Retires this session and returns its compact state for the idle store. */
+    synchronized GameState park() {
+        retired = true;
+        if (hints != null) hints.close();
+        return model.dehydrate();
+    }
+
+    synchronized void retire() {
+        retired = true;
+        if (hints != null) hints.close();
+    }
+
+    public synchronized List<LetterFeedback> guess(String word) {
+        touch();
+        return model.submitGuess(word);
+    }
+
+    public synchronized BoardSnapshot snapshot() {
+        return model.snapshot();
+    }
+
+    public synchronized List<String> hints(int k, HintEngine.Scoring mode) {
+        touch();
+        if (hints == null) hints = new HintSession(engine, model);
+        return hints.suggest(k, mode);
+    }
+
+    /** State as a JSON object; the secret is only revealed once the game is over. */
+    public synchronized String toJson() {
+        touch();
+        BoardSnapshot board = model.snapshot();
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("{\"id\":").append(Json.quote(id))
+          .append(",\"status\":").append(Json.quote(board.status().name()))
+          .append(",\"hardMode\":").append(board.hardMode())
+          .append(",\"turns\":").append(board.turns())
+          .append(",\"rows\":[");
+        List<String> guesses = board.guesses();
+        List<List<LetterFeedback>> fb = board.feedback();
+        for (int r = 0; r < guesses.size(); r++) {
+            if (r > 0) sb.append(',');
+            sb.append("{\"guess\":").append(Json.quote(guesses.get(r)))
+              .append(",\"feedback\":").append(Json.quote(Json.feedback(fb.get(r)))).append('}');
+        }
+        sb.append(']');
+        if (board.status() != GameStatus.IN_PROGRESS)
+            sb.append(",\"secret\":").append(Json.quote(model.getSecretDebug()));
+        return sb.append('}').toString();
+    }
+
+    private void touch() { lastAccessMillis = System.currentTimeMillis(); }
+}
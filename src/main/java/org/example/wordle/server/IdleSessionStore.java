@@ -0,0 +1,161 @@
+package org.example.wordle.server;
+
+import org.example.wordle.model.GameState;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Parked games as primitive arrays: an open-addressing table of (id, {@link GameState})
+ * plus a ring of parks in arrival order. Entries expire after a TTL and the oldest
+ * are evicted first once the store is full. About 130 bytes per game.
+ */
+public final class IdleSessionStore {
+    private static final long EMPTY = -1; // session ids are non-negative
+
+    private final int capacity;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    // hash table, at most half full
+    private final long[] keys, w0, w1, w2, seq;
+    private final int mask;
+    private int size;
+
+    // arrival order; entries go stale when taken or re-parked and are skipped on pop
+    private final long[] ringKey, ringSeq, ringTime;
+    private int ringHead, ringCount;
+    private long nextSeq;
+
+    private long expired, evicted;
+
+    public IdleSessionStore(int capacity, long ttlMillis) {
+        this(capacity, ttlMillis, System::currentTimeMillis);
+    }
+
+    public IdleSessionStore(int capacity, long ttlMillis, LongSupplier clock) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.keys = new long[tableSize];
+        Arrays.fill(keys, EMPTY);
+        this.w0 = new long[tableSize];
+        this.w1 = new long[tableSize];
+        this.w2 = new long[tableSize];
+        this.seq = new long[tableSize];
+        this.mask = tableSize - 1;
+        this.ringKey = new long[capacity * 2];
+        this.ringSeq = new long[capacity * 2];
+        this.ringTime = new long[capacity * 2];
+    }
+
+    /** Parks (or re-parks) a game under {@code id}, evicting expired and then oldest entries as needed. */
+    public synchronized void park(long id, GameState state) {
+        if (id < 0) throw new IllegalArgumentException("Negative session id");
+        long now = clock.getAsLong();
+        expire(now);
+        int slot = find(id);
+        if (slot < 0) {
+            while (size >= capacity) evictOldest();
+            slot = ~find(id); // eviction may have shifted entries
+            keys[slot] = id;
+            size++;
+        }
+        w0[slot] = state.w0();
+        w1[slot] = state.w1();
+        w2[slot] = state.w2();
+        seq[slot] = nextSeq;
+        if (ringCount == ringKey.length) compactRing(); // full of stale entries: at most size are live
+        int tail = (ringHead + ringCount++) % ringKey.length;
+        ringKey[tail] = id;
+        ringSeq[tail] = nextSeq++;
+        ringTime[tail] = now;
+    }
+
+    /** Removes and returns the parked game, or null if absent or expired. */
+    public synchronized GameState take(long id) {
+        expire(clock.getAsLong());
+        int slot = find(id);
+        if (slot < 0) return null;
+        GameState state = new GameState(w0[slot], w1[slot], w2[slot]);
+        delete(slot);
+        return state;
+    }
+
+    public synchronized int size() { return size; }
+
+    public synchronized long expiredCount() { return expired; }
+
+    public synchronized long evictedCount() { return evicted; }
+
+    /** Drops everything parked longer than the TTL. */
+    public synchronized void expire() { expire(clock.getAsLong()); }
+
+    private void expire(long now) {
+        while (ringCount > 0 && now - ringTime[ringHead] > ttlMillis) {
+            if (popRing()) expired++;
+        }
+    }
+
+    private void evictOldest() {
+        while (ringCount > 0) {
+            if (popRing()) { evicted++; return; }
+        }
+    }
+
+    /** Pops the ring head, deleting its entry if still current; true if one was deleted. */
+    private boolean popRing() {
+        long id = ringKey[ringHead], parkSeq = ringSeq[ringHead];
+        ringHead = (ringHead + 1) % ringKey.length;
+        ringCount--;
+        int slot = find(id);
+        if (slot < 0 || seq[slot] != parkSeq) return false;
+        delete(slot);
+        return true;
+    }
+
+    /** Drops stale ring entries in place, keeping live ones in arrival order. */
+    private void compactRing() {
+        int kept = 0;
+        for (int r = 0; r < ringCount; r++) {
+            int from = (ringHead + r) % ringKey.length;
+            int slot = find(ringKey[from]);
+            if (slot < 0 || seq[slot] != ringSeq[from]) continue;
+            int to = (ringHead + kept++) % ringKey.length; // never ahead of from
+            ringKey[to] = ringKey[from];
+            ringSeq[to] = ringSeq[from];
+            ringTime[to] = ringTime[from];
+        }
+        ringCount = kept;
+    }
+
+    /** Slot holding {@code id}, or {@code ~slot} of the empty slot where it would go. */
+    private int find(long id) {
+        int i = (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (keys[i] != EMPTY) {
+            if (keys[i] == id) return i;
+            i = (i + 1) & mask;
+        }
+        return ~i;
+    }
+
+    // backward-shift deletion keeps probe chains intact without tombstones
+    private void delete(int slot) {
+        int hole = slot;
+        for (int i = (slot + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            int home = (int) ((keys[i] * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                w0[hole] = w0[i];
+                w1[hole] = w1[i];
+                w2[hole] = w2[i];
+                seq[hole] = seq[i];
+                hole = i;
+            }
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.wordle.server;
+
+import org.example.wordle.model.LetterFeedback;
+
+import java.util.List;
+
+/** Just enough JSON for the server's flat responses; no external dependency. */
+final class Json {
+    private Json() {}
+
+    static String quote(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    static String array(List<String> values) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(quote(values.get(i)));
+        }
+        return sb.append(']').toString();
+    }
+
+    static String error(String message) {
+        return "{\"error\":" + quote(message == null ? "error" : message) + "}";
+    }
+
+    /** G = correct, Y = present, - = absent, one character per letter. */
+    static String feedback(List<LetterFeedback> row) {
+        char[] out = new char[row.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = switch (row.get(i)) {
+                case CORRECT -> 'G';
+                case PRESENT -> 'Y';
+                case ABSENT -> '-';
+            };
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.wordle.server;
+
+import org.example.wordle.model.DictionaryRegistry;
+import org.example.wordle.model.Dictionary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local load generator for {@link GameServer}: opens many sessions, plays a few guesses
+ * in each with a bounded number of requests in flight, and reports requests/s and
+ * latency percentiles. Starts an in-process server unless {@code --url} is given.
+ */
+public class LoadTestClient {
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f]+)\"");
+
+    /** Latencies are in microseconds. */
+    public record Report(long requests, long errors, double seconds, double p50Micros, double p99Micros, double p999Micros) {
+        public double requestsPerSecond() { return requests / seconds; }
+    }
+
+    private final HttpClient client;
+    private final URI base;
+    private final Semaphore inFlight;
+    private final long[] latencies;
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicLong errors = new AtomicLong();
+
+    public LoadTestClient(URI base, int concurrency, int maxRequests) {
+        this.base = base;
+        this.inFlight = new Semaphore(concurrency);
+        this.latencies = new long[maxRequests];
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors())))
+                .build();
+    }
+
+    /**
+     * Opens {@code sessions} games first, so they are all live on the server at once, then
+     * plays up to {@code guessesPerSession} words from {@code words} in each and deletes it.
+     * Each session issues one request at a time, like a real player; at most
+     * {@code concurrency} requests are in flight.
+     */
+    public Report run(int sessions, int guessesPerSession, List<String> words, long seed) {
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> ids = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            inFlight.acquireUninterruptibly();
+            ids.add(send(HttpRequest.newBuilder(base.resolve("/sessions")).POST(HttpRequest.BodyPublishers.noBody()))
+                    .thenApply(body -> {
+                        Matcher m = ID.matcher(body);
+                        return m.find() ? m.group(1) : null;
+                    })
+                    .whenComplete((v, err) -> inFlight.release()));
+        }
+        Random rng = new Random(seed);
+        List<CompletableFuture<?>> games = new ArrayList<>(sessions);
+        for (CompletableFuture<String> f : ids) {
+            String id = f.join();
+            if (id == null) continue;
+            String[] picks = new String[guessesPerSession];
+            for (int g = 0; g < picks.length; g++) picks[g] = words.get(rng.nextInt(words.size()));
+            inFlight.acquireUninterruptibly();
+            games.add(play(id, picks, 0).whenComplete((v, err) -> inFlight.release()));
+        }
+        CompletableFuture.allOf(games.toArray(CompletableFuture[]::new)).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int n = Math.min(recorded.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, n);
+        Arrays.sort(sorted);
+        return new Report(recorded.get(), errors.get(), seconds,
+                percentile(sorted, 0.50) / 1e3, percentile(sorted, 0.99) / 1e3, percentile(sorted, 0.999) / 1e3);
+    }
+
+    private CompletableFuture<String> play(String id, String[] picks, int i) {
+        if (i == picks.length) return send(HttpRequest.newBuilder(base.resolve("/sessions/" + id)).DELETE());
+        return send(HttpRequest.newBuilder(base.resolve("/sessions/" + id + "/guess"))
+                .POST(HttpRequest.BodyPublishers.ofString(picks[i])))
+                .thenCompose(body -> body.contains("\"status\":\"IN_PROGRESS\"") ? play(id, picks, i + 1)
+                        : send(HttpRequest.newBuilder(base.resolve("/sessions/" + id)).DELETE()));
+    }
+
+    private CompletableFuture<String> send(HttpRequest.Builder request) {
+        long t0 = System.nanoTime();
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .handle((resp, err) -> {
+                    int slot = recorded.getAndIncrement();
+                    if (slot < latencies.length) latencies[slot] = System.nanoTime() - t0;
+                    if (err != null || resp.statusCode() >= 500) {
+                        errors.incrementAndGet();
+                        return "";
+                    }
+                    return resp.body();
+                });
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(q * sorted.length) - 1)];
+    }
+
+    /**
+     * Usage: {@code LoadTestClient [--url http://host:port] [--sessions 10000] [--guesses 4]
+     * [--concurrency 256] [--threads N] [--seed S]}.
+     */
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int sessions = 10_000, guesses = 4, concurrency = 256, threads = 4 * Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> url = args[++i];
+                case "--sessions" -> sessions = Integer.parseInt(args[++i]);
+                case "--guesses" -> guesses = Integer.parseInt(args[++i]);
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        DictionaryRegistry registry = DictionaryRegistry.shared();
+        Dictionary allowList = registry.allowList();
+        List<String> words = registry.hintEngine().getGuessPool().stream().filter(allowList::isValidWord).toList();
+        GameServer embedded = null;
+        if (url == null) {
+            embedded = new GameServer(0, threads, allowList, registry.hintEngine());
+            embedded.start();
+            url = "http://localhost:" + embedded.port();
+        }
+        try {
+            // sessions + one request per guess + delete, per session
+            var client = new LoadTestClient(URI.create(url), concurrency, sessions * (guesses + 2));
+            Report r = client.run(sessions, guesses, words, seed);
+            System.out.printf("%d sessions, %d requests in %.2f s (%d errors), concurrency %d%n",
+                    sessions, r.requests(), r.seconds(), r.errors(), concurrency);
+            System.out.printf("throughput %.0f req/s  p50 %.0f us  p99 %.0f us  p99.9 %.0f us%n",
+                    r.requestsPerSecond(), r.p50Micros(), r.p99Micros(), r.p999Micros());
+        } finally {
+            if (embedded != null) embedded.stop();
+        }
+        System.exit(0); // the HttpClient's worker pool is not daemon
+    }
+}
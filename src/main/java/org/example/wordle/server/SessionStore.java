@@ -0,0 +1,94 @@
+package org.example.wordle.server;
+
+import org.example.wordle.model.GameState;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Session map split into independently locked stripes, so creating or looking up one
+ * session only blocks requests that hash to the same stripe.
+ */
+public final class SessionStore {
+    private final Map<String, GameSession>[] stripes;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    public SessionStore(int stripeCount) {
+        int n = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1; // next power of two
+        this.stripes = new Map[n];
+        for (int i = 0; i < n; i++) stripes[i] = new HashMap<>();
+        this.mask = n - 1;
+    }
+
+    /** Registers a session under a fresh random id built by {@code factory}. */
+    public GameSession create(Function<String, GameSession> factory) {
+        while (true) {
+            String id = Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+            Map<String, GameSession> stripe = stripe(id);
+            synchronized (stripe) {
+                if (stripe.containsKey(id)) continue;
+                GameSession s = factory.apply(id);
+                stripe.put(id, s);
+                return s;
+            }
+        }
+    }
+
+    public GameSession get(String id) {
+        Map<String, GameSession> stripe = stripe(id);
+        synchronized (stripe) { return stripe.get(id); }
+    }
+
+    /** The session under {@code id}, or one built by {@code loader} (which may return null) while the stripe is held. */
+    public GameSession getOrLoad(String id, Function<String, GameSession> loader) {
+        Map<String, GameSession> stripe = stripe(id);
+        synchronized (stripe) {
+            GameSession s = stripe.get(id);
+            if (s == null && (s = loader.apply(id)) != null) stripe.put(id, s);
+            return s;
+        }
+    }
+
+    /** Retires every session idle since before {@code cutoffMillis} and hands its state to {@code sink}. */
+    public int parkIdle(long cutoffMillis, BiConsumer<String, GameState> sink) {
+        int parked = 0;
+        for (Map<String, GameSession> stripe : stripes) {
+            synchronized (stripe) {
+                for (Iterator<GameSession> it = stripe.values().iterator(); it.hasNext(); ) {
+                    GameSession s = it.next();
+                    if (s.lastAccessMillis() >= cutoffMillis) continue;
+                    synchronized (s) {
+                        if (s.isRetired()) continue;
+                        sink.accept(s.id(), s.park());
+                    }
+                    it.remove();
+                    parked++;
+                }
+            }
+        }
+        return parked;
+    }
+
+    public boolean remove(String id) {
+        Map<String, GameSession> stripe = stripe(id);
+        synchronized (stripe) { return stripe.remove(id) != null; }
+    }
+
+    public int size() {
+        int n = 0;
+        for (Map<String, GameSession> stripe : stripes) {
+            synchronized (stripe) { n += stripe.size(); }
+        }
+        return n;
+    }
+
+    private Map<String, GameSession> stripe(String id) {
+        int h = id.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+}
@@ -0,0 +1,271 @@
+package org.example.wordle.solver;
+
+import org.example.wordle.model.DecisionTree;
+import org.example.wordle.model.FeedbackMatrix;
+import org.example.wordle.model.FeedbackPattern;
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.model.PackedWord;
+import org.example.wordle.model.WordleModel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Offline solver that builds a full decision tree over the secret list: from a root
+ * guess, every feedback pattern leads to a subtree that solves the remaining secrets.
+ *
+ * At each node only the {@code beam} most informative probes (by entropy) are tried,
+ * subtrees are memoised by candidate set and depth, and a probe is abandoned as soon
+ * as its partial cost plus a lower bound for the unsolved buckets cannot beat the best
+ * one found so far. Large buckets are solved in parallel on the common fork/join pool.
+ */
+public class DecisionTreeSolver {
+    // sets at least this large solve their buckets in parallel
+    private static final int PARALLEL_MIN = 48;
+    private static final Plan INFEASIBLE = new Plan(-1, Long.MAX_VALUE, Integer.MAX_VALUE, new byte[0], new Plan[0]);
+
+    private final FeedbackMatrix matrix; // rows: probes, columns: secrets
+    private final int beam;
+    private final int maxDepth;
+    private final Map<Key, Plan> memo = new ConcurrentHashMap<>();
+
+    /**
+     * A solved subtree: play row {@code probe}; {@code total} is the summed guess count over
+     * every secret in the set, {@code worst} the longest path. Children align with patterns.
+     */
+    public record Plan(int probe, long total, int worst, byte[] patterns, Plan[] children) {}
+
+    /** Average and worst-case guesses when opening with {@code root}. */
+    public record RootReport(String root, double average, int worst) {}
+
+    private record Key(int[] set, int depth, int hash) {
+        Key(int[] set, int depth) { this(set, depth, 31 * Arrays.hashCode(set) + depth); }
+        @Override public boolean equals(Object o) {
+            return o instanceof Key k && k.hash == hash && k.depth == depth && Arrays.equals(k.set, set);
+        }
+        @Override public int hashCode() { return hash; }
+    }
+
+    /** Secrets are always added to the probes so every leaf can be played. */
+    public DecisionTreeSolver(List<String> secrets, List<String> probes, int beam) {
+        this(FeedbackMatrix.compute(union(probes, secrets), secrets), beam, WordleModel.MAX_TURNS);
+    }
+
+    public DecisionTreeSolver(FeedbackMatrix matrix, int beam, int maxDepth) {
+        this.matrix = matrix;
+        this.beam = beam;
+        this.maxDepth = maxDepth;
+    }
+
+    public int secretCount() { return matrix.secretCount(); }
+
+    /** Best tree over all secrets that opens with {@code root}; its total is Long.MAX_VALUE if none fits the depth limit. */
+    public Plan solveFrom(String root) {
+        int row = matrix.guessIndex(PackedWord.pack(root));
+        if (row < 0) throw new IllegalArgumentException("Root is not a probe word: " + root);
+        Plan p = tryProbe(row, allSecrets(), 0, Long.MAX_VALUE);
+        return p == null ? INFEASIBLE : p;
+    }
+
+    /** Evaluates each root in parallel; reports are sorted best first. */
+    public List<RootReport> rankRoots(List<String> roots) {
+        int n = secretCount();
+        return roots.parallelStream()
+                .map(r -> {
+                    Plan p = solveFrom(r);
+                    return p == INFEASIBLE
+                            ? new RootReport(r, Double.POSITIVE_INFINITY, Integer.MAX_VALUE)
+                            : new RootReport(r, p.total() / (double) n, p.worst());
+                })
+                .sorted(Comparator.comparingDouble(RootReport::average).thenComparingInt(RootReport::worst))
+                .collect(Collectors.toList());
+    }
+
+    /** The {@code count} highest-entropy opening words over the full secret list. */
+    public List<String> topRoots(int count) {
+        return Arrays.stream(rankProbes(allSecrets(), count)).mapToObj(r -> PackedWord.unpack(matrix.guessAt(r)))
+                .collect(Collectors.toList());
+    }
+
+    /** Flattens a plan breadth-first into the compact tree format. */
+    public DecisionTree toTree(Plan root) {
+        if (root == INFEASIBLE) throw new IllegalArgumentException("No tree within " + maxDepth + " guesses");
+        List<Plan> nodes = new ArrayList<>();
+        ArrayDeque<Plan> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Plan p = queue.poll();
+            nodes.add(p);
+            queue.addAll(Arrays.asList(p.children()));
+        }
+        int[] guess = new int[nodes.size()];
+        int[] start = new int[nodes.size() + 1];
+        int edges = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            guess[i] = matrix.guessAt(nodes.get(i).probe());
+            start[i] = edges;
+            edges += nodes.get(i).children().length;
+        }
+        start[nodes.size()] = edges;
+        byte[] pattern = new byte[edges];
+        int[] child = new int[edges];
+        int nextId = 1, e = 0;
+        for (Plan p : nodes) {
+            for (int c = 0; c < p.children().length; c++, e++) {
+                pattern[e] = p.patterns()[c];
+                child[e] = nextId++; // children were enqueued in this same order
+            }
+        }
+        int[] secrets = new int[matrix.secretCount()];
+        for (int i = 0; i < secrets.length; i++) secrets[i] = matrix.secretAt(i);
+        return new DecisionTree(DecisionTree.fingerprintOf(secrets), guess, start, pattern, child);
+    }
+
+    private static List<String> union(List<String> a, List<String> b) {
+        List<String> out = new ArrayList<>(a);
+        out.addAll(b);
+        return out;
+    }
+
+    // ---- search ----
+
+    private int[] allSecrets() { return IntStream.range(0, matrix.secretCount()).toArray(); }
+
+    private Plan solve(int[] set, int depth) {
+        if (depth >= maxDepth) return INFEASIBLE;
+        Key key = new Key(set, depth);
+        Plan cached = memo.get(key);
+        if (cached != null) return cached;
+
+        Plan best = INFEASIBLE;
+        if (set.length == 1) {
+            best = new Plan(matrix.guessIndex(matrix.secretAt(set[0])), 1, 1, new byte[0], new Plan[0]);
+        } else {
+            long floor = 2L * set.length - 1; // one secret now, every other one next turn
+            for (int row : rankProbes(set, beam)) {
+                Plan p = tryProbe(row, set, depth, best.total());
+                if (p != null && (p.total() < best.total() || (p.total() == best.total() && p.worst() < best.worst())))
+                    best = p;
+                if (best.total() == floor) break;
+            }
+        }
+        memo.put(key, best);
+        return best;
+    }
+
+    /** Plan for playing {@code row} on {@code set}, or null if it cannot beat {@code bound}. */
+    private Plan tryProbe(int row, int[] set, int depth, long bound) {
+        int[] counts = new int[FeedbackPattern.COUNT];
+        for (int s : set) counts[matrix.pattern(row, s)]++;
+        int buckets = 0;
+        long total = set.length;
+        for (int p = 0; p < FeedbackPattern.COUNT; p++) {
+            if (counts[p] == 0 || p == FeedbackPattern.ALL_CORRECT) continue;
+            if (counts[p] == set.length) return null; // probe tells us nothing
+            buckets++;
+            total += 2L * counts[p] - 1;
+        }
+        if (total >= bound) return null;
+
+        byte[] patterns = new byte[buckets];
+        int[][] parts = new int[buckets][];
+        int[] slot = new int[FeedbackPattern.COUNT];
+        for (int p = 0, b = 0; p < FeedbackPattern.COUNT; p++) {
+            if (counts[p] == 0 || p == FeedbackPattern.ALL_CORRECT) continue;
+            patterns[b] = (byte) p;
+            slot[p] = b;
+            parts[b++] = new int[counts[p]];
+        }
+        int[] fill = new int[buckets];
+        for (int s : set) {
+            int p = matrix.pattern(row, s);
+            if (p == FeedbackPattern.ALL_CORRECT) continue;
+            int b = slot[p];
+            parts[b][fill[b]++] = s;
+        }
+
+        Plan[] children = new Plan[buckets];
+        if (set.length >= PARALLEL_MIN) {
+            IntStream.range(0, buckets).parallel().forEach(b -> children[b] = solve(parts[b], depth + 1));
+        }
+        int worst = 1;
+        for (int b = 0; b < buckets; b++) {
+            if (children[b] == null) children[b] = solve(parts[b], depth + 1);
+            Plan c = children[b];
+            if (c == INFEASIBLE) return null;
+            total += c.total() - (2L * parts[b].length - 1);
+            if (total >= bound) return null;
+            worst = Math.max(worst, 1 + c.worst());
+        }
+        return new Plan(row, total, worst, patterns, children);
+    }
+
+    /** Rows of the {@code k} probes with the highest pattern entropy over {@code set}; members of the set win ties. */
+    private int[] rankProbes(int[] set, int k) {
+        int rows = matrix.guessCount();
+        double[] score = new double[rows];
+        int[] counts = new int[FeedbackPattern.COUNT];
+        boolean[] member = new boolean[rows];
+        for (int s : set) {
+            int r = matrix.guessIndex(matrix.secretAt(s));
+            if (r >= 0) member[r] = true;
+        }
+        for (int r = 0; r < rows; r++) {
+            Arrays.fill(counts, 0);
+            for (int s : set) counts[matrix.pattern(r, s)]++;
+            double sum = 0;
+            for (int c : counts) if (c > 1) sum += c * Math.log(c);
+            score[r] = -sum + (member[r] ? 1.0 : 0); // minimising sum(c log c) maximises entropy
+        }
+        return IntStream.range(0, rows).boxed()
+                .sorted((a, b) -> Double.compare(score[b], score[a]))
+                .limit(k).mapToInt(Integer::intValue).toArray();
+    }
+
+    // ---- command line ----
+
+    /**
+     * Usage: {@code DecisionTreeSolver [--roots N] [--beam N] [--out FILE] [ROOT ...]}.
+     * Ranks the given roots (or the N highest-entropy ones) and writes the best tree.
+     */
+    public static void main(String[] args) throws IOException {
+        int roots = 10, beam = 12;
+        Path out = Path.of(System.getProperty("user.home"), ".wordle", "decision-tree.bin");
+        List<String> given = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--roots" -> roots = Integer.parseInt(args[++i]);
+                case "--beam" -> beam = Integer.parseInt(args[++i]);
+                case "--out" -> out = Path.of(args[++i]);
+                default -> given.add(args[i].toUpperCase());
+            }
+        }
+        HintEngine words = new HintEngine();
+        long t0 = System.nanoTime();
+        DecisionTreeSolver solver = new DecisionTreeSolver(words.getCorpus(), words.getGuessPool(), beam);
+        List<RootReport> reports = solver.rankRoots(given.isEmpty() ? solver.topRoots(roots) : given);
+        System.out.printf("%d secrets, beam %d, %.1f s%n", solver.secretCount(), beam, (System.nanoTime() - t0) / 1e9);
+        for (RootReport r : reports) System.out.printf("%-6s avg %.4f  worst %d%n", r.root(), r.average(), r.worst());
+
+        RootReport best = reports.get(0);
+        if (best.worst() == Integer.MAX_VALUE) {
+            System.out.println("No root solves every secret within " + WordleModel.MAX_TURNS + " guesses.");
+            return;
+        }
+        DecisionTree tree = solver.toTree(solver.solveFrom(best.root()));
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        try (OutputStream os = Files.newOutputStream(out)) { tree.write(os); }
+        System.out.println("Wrote " + tree.nodeCount() + "-node tree rooted at " + best.root() + " to " + out);
+    }
+}
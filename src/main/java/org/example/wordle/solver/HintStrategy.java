@@ -0,0 +1,25 @@
+package org.example.wordle.solver;
+
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.model.LetterFeedback;
+
+import java.util.List;
+
+/** Plays the top {@link HintEngine#suggest} pick under a fixed scoring mode. */
+public class HintStrategy implements Strategy {
+    private final HintEngine engine;
+    private final HintEngine.Scoring mode;
+
+    public HintStrategy(HintEngine engine, HintEngine.Scoring mode) {
+        this.engine = engine;
+        this.mode = mode;
+    }
+
+    @Override
+    public String nextGuess(List<String> guesses, List<List<LetterFeedback>> feedback) {
+        List<String> top = engine.suggest(guesses, feedback, 1, mode);
+        return top.isEmpty() ? null : top.get(0);
+    }
+
+    @Override public String toString() { return "hints/" + mode; }
+}
@@ -0,0 +1,143 @@
+package org.example.wordle.solver;
+
+import org.example.wordle.model.Dictionary;
+import org.example.wordle.model.GameStatus;
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.model.OpenDictionary;
+import org.example.wordle.model.WordleModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless game runner: plays whole games through {@link WordleModel} with a
+ * {@link Strategy} on a fixed thread pool, and reports solver quality and latency.
+ */
+public class Simulator {
+    // secrets are always fixed per game, so the secret source is never consulted
+    private static final Dictionary ANY_WORD = new OpenDictionary(null);
+
+    private final Strategy strategy;
+    private final int threads;
+
+    /**
+     * @param guessDistribution wins by guess count, index 0 = solved in one
+     * @param p50Micros median time per {@link Strategy#nextGuess} call
+     * @param p99Micros 99th percentile time per {@link Strategy#nextGuess} call
+     */
+    public record Report(int games, int wins, int[] guessDistribution, double seconds,
+                         double p50Micros, double p99Micros) {
+        public double gamesPerSecond() { return games / seconds; }
+        public double failureRate() { return games == 0 ? 0.0 : (games - wins) / (double) games; }
+        public double averageGuesses() {
+            long sum = 0;
+            for (int i = 0; i < guessDistribution.length; i++) sum += (long) (i + 1) * guessDistribution[i];
+            return wins == 0 ? 0.0 : sum / (double) wins;
+        }
+    }
+
+    private record Game(boolean won, int turns, long[] decisionNanos) {}
+
+    public Simulator(Strategy strategy, int threads) {
+        this.strategy = strategy;
+        this.threads = Math.max(1, threads);
+    }
+
+    /** Plays one game per secret. */
+    public Report run(List<String> secrets) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<Game>> futures = new ArrayList<>(secrets.size());
+            for (String s : secrets) futures.add(pool.submit(() -> play(s)));
+            int wins = 0, decisions = 0;
+            int[] dist = new int[WordleModel.MAX_TURNS];
+            List<long[]> times = new ArrayList<>(futures.size());
+            for (Future<Game> f : futures) {
+                Game g = f.get();
+                if (g.won()) { wins++; dist[g.turns() - 1]++; }
+                times.add(g.decisionNanos());
+                decisions += g.decisionNanos().length;
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long[] all = new long[decisions];
+            int n = 0;
+            for (long[] t : times) { System.arraycopy(t, 0, all, n, t.length); n += t.length; }
+            Arrays.sort(all);
+            return new Report(secrets.size(), wins, dist, seconds, percentile(all, 0.50) / 1e3, percentile(all, 0.99) / 1e3);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Plays {@code n} secrets drawn with replacement from {@code secrets}. */
+    public Report runRandom(List<String> secrets, int n, long seed) throws InterruptedException {
+        Random rng = new Random(seed);
+        List<String> picks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) picks.add(secrets.get(rng.nextInt(secrets.size())));
+        return run(picks);
+    }
+
+    private Game play(String secret) {
+        WordleModel model = new WordleModel(ANY_WORD, secret);
+        long[] nanos = new long[WordleModel.MAX_TURNS];
+        int d = 0;
+        while (model.getStatus() == GameStatus.IN_PROGRESS) {
+            long t0 = System.nanoTime();
+            String guess = strategy.nextGuess(model.getGuesses(), model.getFeedback());
+            nanos[d++] = System.nanoTime() - t0;
+            if (guess == null) break;
+            try {
+                model.submitGuess(guess);
+            } catch (IllegalArgumentException ex) {
+                break; // strategy played something the rules reject: counts as a loss
+            }
+        }
+        return new Game(model.getStatus() == GameStatus.WON, model.turnsTaken(), Arrays.copyOf(nanos, d));
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(q * sorted.length) - 1)];
+    }
+
+    /**
+     * Usage: {@code Simulator [--mode FREQUENCY|ENTROPY|TREE] [--games N] [--threads N] [--seed S]}.
+     * Without {@code --games} every secret in wordlist.txt is played once.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        HintEngine.Scoring mode = HintEngine.Scoring.ENTROPY;
+        int games = -1, threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--mode" -> mode = HintEngine.Scoring.valueOf(args[++i].toUpperCase());
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        HintEngine engine = new HintEngine();
+        Simulator sim = new Simulator(new HintStrategy(engine, mode), threads);
+        List<String> secrets = Collections.unmodifiableList(engine.getCorpus());
+        Report r = games < 0 ? sim.run(secrets) : sim.runRandom(secrets, games, seed);
+
+        System.out.printf("strategy %s, %d threads%n", mode, threads);
+        System.out.printf("games %d  wins %d  failure %.2f%%  avg guesses %.3f%n",
+                r.games(), r.wins(), 100 * r.failureRate(), r.averageGuesses());
+        System.out.printf("throughput %.1f games/s  decision p50 %.1f us  p99 %.1f us%n",
+                r.gamesPerSecond(), r.p50Micros(), r.p99Micros());
+        int[] d = r.guessDistribution();
+        for (int i = 0; i < d.length; i++) System.out.printf("  %d: %d%n", i + 1, d[i]);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.wordle.solver;
+
+import org.example.wordle.model.LetterFeedback;
+
+import java.util.List;
+
+/** A guessing policy for headless play. Implementations are called from many threads at once. */
+public interface Strategy {
+    /** Word to play next given the rows so far; null means the strategy gives up. */
+    String nextGuess(List<String> guesses, List<List<LetterFeedback>> feedback);
+}
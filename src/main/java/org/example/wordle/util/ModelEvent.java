@@ -0,0 +1,33 @@
+package org.example.wordle.util;
+
+/**
+ * What changed in a model, so views can repaint only the affected part.
+ *
+ * @param row the submitted row for {@link Type#ROW_SUBMITTED}, the preview row for
+ *            {@link Type#PREVIEW_CHANGED}, otherwise -1
+ */
+public record ModelEvent(Type type, int row) {
+    public enum Type {
+        /** A guess was accepted into {@code row}. */
+        ROW_SUBMITTED,
+        /** The unsubmitted text shown in {@code row} changed. */
+        PREVIEW_CHANGED,
+        /** Everything may have changed (new game or restored state): repaint fully. */
+        RESET,
+        /** The game was won or lost; always follows the ROW_SUBMITTED that caused it. */
+        STATUS_CHANGED,
+        /** Hard or strict hard mode was switched on or off. */
+        MODE_CHANGED
+    }
+
+    public static final ModelEvent RESET = new ModelEvent(Type.RESET, -1);
+    public static final ModelEvent STATUS_CHANGED = new ModelEvent(Type.STATUS_CHANGED, -1);
+    public static final ModelEvent MODE_CHANGED = new ModelEvent(Type.MODE_CHANGED, -1);
+
+    public static ModelEvent rowSubmitted(int row) { return new ModelEvent(Type.ROW_SUBMITTED, row); }
+
+    public static ModelEvent previewChanged(int row) { return new ModelEvent(Type.PREVIEW_CHANGED, row); }
+
+    /** True for events that change the game itself rather than just its presentation. */
+    public boolean changesGame() { return type == Type.ROW_SUBMITTED || type == Type.RESET; }
+}
@@ -2,4 +2,12 @@ package org.example.wordle.util;
 
 public interface ModelListener {
     void onModelChanged();
+
+    /**
+     * Typed notification; by default calls {@link #onModelChanged()} once per change to
+     * the game (a guess or a reset) and ignores preview and status follow-up events.
+     */
+    default void onModelEvent(ModelEvent event) {
+        if (event.changesGame()) onModelChanged();
+    }
 }
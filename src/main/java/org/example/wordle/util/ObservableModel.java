@@ -2,14 +2,159 @@ package org.example.wordle.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Listener registry and event dispatch. Registration is copy-on-write, so listeners may
+ * subscribe or unsubscribe from any thread, including during dispatch. A listener is
+ * called either synchronously on the firing thread or through its own {@link Executor}
+ * (e.g. {@code Platform::runLater}); events that pile up before an executor gets to run
+ * are handed over in order in one task, minus those a later event makes redundant. All
+ * events fired inside {@link #batch} are merged into one.
+ */
 public abstract class ObservableModel {
-    private final List<ModelListener> listeners = new ArrayList<>();
+    /** Dispatch counters since creation; latency is from firing to the listener being called. */
+    public record DispatchStats(long delivered, long coalesced, long totalLatencyNanos, long maxLatencyNanos) {
+        public double meanLatencyMicros() { return delivered == 0 ? 0 : totalLatencyNanos / 1e3 / delivered; }
+    }
+
+    private final List<Registration> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private volatile long maxLatency;
+    private int batchDepth;
+    private ModelEvent batched;
+
+    public void addListener(ModelListener listener) { listeners.add(new Registration(listener, null)); }
+
+    /** Calls {@code listener} through {@code executor}, one task per burst of events it has not seen yet. */
+    public void addListener(ModelListener listener, Executor executor) {
+        listeners.add(new Registration(listener, executor));
+    }
+
+    public void removeListener(ModelListener listener) {
+        for (Registration r : listeners) {
+            if (r.listener == listener) {
+                r.active = false;
+                listeners.remove(r);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code changes} and then notifies listeners once for everything they changed. For
+     * callers making several model changes in a row; restoring a whole game needs no batch,
+     * since {@code WordleModel.restore} already fires a single event.
+     */
+    public void batch(Runnable changes) {
+        batchDepth++;
+        try {
+            changes.run();
+        } finally {
+            if (--batchDepth == 0 && batched != null) {
+                ModelEvent e = batched;
+                batched = null;
+                fireEvent(e);
+            }
+        }
+    }
 
-    public void addListener(ModelListener listener) { listeners.add(listener); }
-    public void removeListener(ModelListener listener) { listeners.remove(listener); }
+    public DispatchStats dispatchStats() {
+        return new DispatchStats(delivered.sum(), coalesced.sum(), totalLatency.sum(), maxLatency);
+    }
 
+    /** Untyped change: listeners see a full {@link ModelEvent#RESET}. */
     protected void notifyListeners() {
-        for (ModelListener l : listeners) l.onModelChanged();
+        fireEvent(ModelEvent.RESET);
+    }
+
+    protected void fireEvent(ModelEvent event) {
+        if (batchDepth > 0) {
+            if (batched != null) coalesced.increment();
+            batched = merge(batched, event);
+            return;
+        }
+        long firedAt = System.nanoTime();
+        for (Registration r : listeners) r.deliver(event, firedAt);
+    }
+
+    /** One event standing for {@code earlier} followed by {@code later}. */
+    static ModelEvent merge(ModelEvent earlier, ModelEvent later) {
+        if (earlier == null) return later;
+        if (earlier.type() == ModelEvent.Type.PREVIEW_CHANGED && later.equals(earlier)) return later;
+        return ModelEvent.RESET;
+    }
+
+    /**
+     * Appends {@code event} to {@code queue}, dropping queued events it makes redundant;
+     * returns how many events were dropped. Listeners read the model when called, so a
+     * queued reset already covers anything after it and only the latest preview matters.
+     */
+    static int enqueue(List<ModelEvent> queue, ModelEvent event) {
+        if (!queue.isEmpty() && queue.get(0).type() == ModelEvent.Type.RESET) return 1;
+        int before = queue.size();
+        if (event.type() == ModelEvent.Type.RESET) queue.clear();
+        else if (event.type() == ModelEvent.Type.PREVIEW_CHANGED) queue.removeIf(e -> e.type() == ModelEvent.Type.PREVIEW_CHANGED);
+        int dropped = before - queue.size();
+        queue.add(event);
+        return dropped;
+    }
+
+    private void record(long firedAt) {
+        long latency = System.nanoTime() - firedAt;
+        delivered.increment();
+        totalLatency.add(latency);
+        if (latency > maxLatency) maxLatency = latency; // racy max is fine for a counter
+    }
+
+    private final class Registration {
+        final ModelListener listener;
+        final Executor executor;
+        volatile boolean active = true;
+        // events waiting for the executor, and when the first of them was fired
+        private List<ModelEvent> queue;
+        private long queuedAt;
+
+        Registration(ModelListener listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        void deliver(ModelEvent event, long firedAt) {
+            if (executor == null) {
+                record(firedAt);
+                listener.onModelEvent(event);
+                return;
+            }
+            boolean schedule;
+            synchronized (this) {
+                schedule = queue == null;
+                if (schedule) {
+                    queue = new ArrayList<>(4);
+                    queuedAt = firedAt;
+                }
+                coalesced.add(enqueue(queue, event));
+            }
+            if (schedule) executor.execute(this::drain);
+        }
+
+        private void drain() {
+            List<ModelEvent> events;
+            long firedAt;
+            synchronized (this) {
+                events = queue;
+                firedAt = queuedAt;
+                queue = null;
+            }
+            if (events == null) return;
+            for (ModelEvent e : events) {
+                if (!active) return;
+                record(firedAt);
+                listener.onModelEvent(e);
+            }
+        }
     }
 }
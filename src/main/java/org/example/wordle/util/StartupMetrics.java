@@ -0,0 +1,29 @@
+package org.example.wordle.util;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Startup milestones measured from JVM launch, so regressions in class loading,
+ * first paint and background loading all show up in the same numbers.
+ */
+public class StartupMetrics {
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private volatile long firstFrameMillis = -1;
+    private volatile long interactiveMillis = -1;
+
+    public void markFirstFrame() { if (firstFrameMillis < 0) firstFrameMillis = sinceLaunch(); }
+    public void markInteractive() { if (interactiveMillis < 0) interactiveMillis = sinceLaunch(); }
+
+    /** Milliseconds from JVM start to the first rendered frame, or -1 if not reached yet. */
+    public long timeToFirstFrameMillis() { return firstFrameMillis; }
+
+    /** Milliseconds from JVM start until input is accepted, or -1 if not reached yet. */
+    public long timeToInteractiveMillis() { return interactiveMillis; }
+
+    private long sinceLaunch() { return System.currentTimeMillis() - jvmStartMillis; }
+
+    @Override
+    public String toString() {
+        return "time-to-first-frame " + firstFrameMillis + " ms, time-to-interactive " + interactiveMillis + " ms";
+    }
+}
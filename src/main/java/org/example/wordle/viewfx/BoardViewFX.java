@@ -1,5 +1,6 @@
 package org.example.wordle.viewfx;
 
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
@@ -9,8 +10,10 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 
+import org.example.wordle.model.BoardSnapshot;
 import org.example.wordle.model.LetterFeedback;
 import org.example.wordle.model.WordleModel;
+import org.example.wordle.util.ModelEvent;
 import org.example.wordle.util.ModelListener;
 
 import java.util.ArrayList;
@@ -22,11 +25,13 @@ public class BoardViewFX extends GridPane implements ModelListener {
 
     private final WordleModel model;
     private final List<Tile> tiles = new ArrayList<>();
-    private String preview = ""; // current unsubmitted guess
+    // what the preview row currently shows, so a keystroke repaints only the changed tile
+    private String shownPreview = "";
+    private int shownPreviewRow = -1;
 
     public BoardViewFX(WordleModel model) {
         this.model = model;
-        this.model.addListener(this);
+        this.model.addListener(this, Platform::runLater); // at most one repaint per burst of events
         setHgap(GAP);
         setVgap(GAP);
         setAlignment(Pos.CENTER);
@@ -43,34 +48,64 @@ public class BoardViewFX extends GridPane implements ModelListener {
         render();
     }
 
+    /** Shows {@code text} as the unsubmitted row; same as {@link WordleModel#setPreview}. */
     public void setPreview(String text) {
-        this.preview = text == null ? "" : text.toUpperCase();
-        render();
+        model.setPreview(text);
     }
 
     @Override public void onModelChanged() { render(); }
 
+    @Override
+    public void onModelEvent(ModelEvent event) {
+        switch (event.type()) {
+            case ROW_SUBMITTED -> {
+                paintRow(model.snapshot(), event.row());
+                if (shownPreviewRow == event.row()) { shownPreview = ""; shownPreviewRow = -1; } // overwritten
+            }
+            case PREVIEW_CHANGED -> paintPreview(event.row(), model.getPreview());
+            case RESET -> render();
+            case STATUS_CHANGED, MODE_CHANGED -> { }
+        }
+    }
+
+    /** Full repaint of all tiles. */
     private void render() {
-// clear
         for (Tile t : tiles) t.setNeutral();
+        BoardSnapshot board = model.snapshot();
+        for (int r = 0; r < board.turns(); r++) paintRow(board, r);
+        shownPreview = "";
+        shownPreviewRow = -1;
+        paintPreview(board.turns(), model.getPreview());
+    }
 
-// filled rows
-        var guesses = model.getGuesses();
-        var feedback = model.getFeedback();
-        for (int r = 0; r < guesses.size(); r++) {
-            String g = guesses.get(r);
-            for (int c = 0; c < WordleModel.WORD_LENGTH; c++) {
-                LetterFeedback lf = feedback.get(r).get(c);
-                tiles.get(r * WordleModel.WORD_LENGTH + c).setResult(g.charAt(c), lf);
+    private void paintRow(BoardSnapshot board, int r) {
+        String g = board.guesses().get(r);
+        List<LetterFeedback> row = board.feedback().get(r);
+        for (int c = 0; c < WordleModel.WORD_LENGTH; c++) tile(r, c).setResult(g.charAt(c), row.get(c));
+    }
+
+    // repaints only tiles whose letter differs from what the preview row shows now
+    private void paintPreview(int row, String text) {
+        if (row != shownPreviewRow) {
+            if (shownPreviewRow >= model.turnsTaken() && shownPreviewRow < WordleModel.MAX_TURNS) {
+                for (int c = 0; c < shownPreview.length(); c++) tile(shownPreviewRow, c).setNeutral();
             }
+            shownPreview = "";
         }
-// preview row
-        int row = guesses.size();
-        if (row < WordleModel.MAX_TURNS && preview != null) {
-            for (int c = 0; c < preview.length() && c < WordleModel.WORD_LENGTH; c++) {
-                tiles.get(row * WordleModel.WORD_LENGTH + c).setPreview(preview.charAt(c));
-            }
+        shownPreviewRow = row;
+        if (row >= WordleModel.MAX_TURNS) return;
+        for (int c = 0; c < WordleModel.WORD_LENGTH; c++) {
+            char was = c < shownPreview.length() ? shownPreview.charAt(c) : 0;
+            char now = c < text.length() ? text.charAt(c) : 0;
+            if (was == now) continue;
+            if (now == 0) tile(row, c).setNeutral();
+            else tile(row, c).setPreview(now);
         }
+        shownPreview = text.length() > WordleModel.WORD_LENGTH ? text.substring(0, WordleModel.WORD_LENGTH) : text;
+    }
+
+    private Tile tile(int row, int col) {
+        return tiles.get(row * WordleModel.WORD_LENGTH + col);
     }
 
     private static class Tile extends StackPane {
@@ -1,6 +1,7 @@
 package org.example.wordle.viewfx;
 
 
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -8,18 +9,34 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import org.example.wordle.model.KeyboardState;
 import org.example.wordle.model.LetterFeedback;
+import org.example.wordle.model.WordleModel;
+import org.example.wordle.util.ModelEvent;
+import org.example.wordle.util.ModelListener;
 
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
-public class KeyboardViewFX extends VBox {
+public class KeyboardViewFX extends VBox implements ModelListener {
     private static final String[] ROWS = { "QWERTYUIOP", "ASDFGHJKL", "⌫ZXCVBNM⏎" };
+    private static final String STYLESHEET = KeyboardViewFX.class.getResource("/org/example/wordle/keyboard.css").toExternalForm();
+    private static final String[] STYLE_CLASS = styleClasses();
     private final Map<Character, Button> buttons = new HashMap<>();
+    private final Map<Character, LetterFeedback> shown = new HashMap<>(); // colour each key currently has
+    private WordleModel model;
     private Consumer<String> handler = s -> {};
 
+    /** Keyboard that follows {@code model}, restyling only the keys of each submitted row. */
+    public KeyboardViewFX(WordleModel model) {
+        this();
+        this.model = model;
+        model.addListener(this, Platform::runLater); // at most one restyle per burst of events
+        updateColors(model.getKeyboard());
+    }
+
     public KeyboardViewFX() {
+        getStylesheets().add(STYLESHEET);
         setSpacing(6);
         setPadding(new Insets(8));
         setAlignment(Pos.CENTER);
@@ -42,22 +59,45 @@ public class KeyboardViewFX extends VBox {
 
     public void setHandler(Consumer<String> h) { this.handler = h; }
 
-    public void updateColors(KeyboardState state) {
-        Map<Character, LetterFeedback> map = state.snapshot();
-        for (var entry : buttons.entrySet()) {
-            char ch = entry.getKey();
-            Button b = entry.getValue();
-            LetterFeedback fb = map.get(Character.toUpperCase(ch));
-            if (fb == null) {
-                b.setStyle("");
-            } else {
-                String color = switch (fb) {
-                    case CORRECT -> "#6AAA64";
-                    case PRESENT -> "#C9B458";
-                    case ABSENT -> "#787C7E";
-                };
-                b.setStyle("-fx-background-color: " + color + "; -fx-text-fill: white;");
+    // indexed by LetterFeedback ordinal
+    private static String[] styleClasses() {
+        String[] out = new String[LetterFeedback.values().length];
+        for (LetterFeedback fb : LetterFeedback.values()) out[fb.ordinal()] = "key-" + fb.name().toLowerCase();
+        return out;
+    }
+
+    @Override public void onModelChanged() { if (model != null) updateColors(model.getKeyboard()); }
+
+    @Override
+    public void onModelEvent(ModelEvent event) {
+        if (model == null) return;
+        switch (event.type()) {
+            case ROW_SUBMITTED -> {
+                KeyboardState state = model.getKeyboard();
+                int changed = state.changedLetters();
+                for (int i = 0; changed != 0; i++, changed >>>= 1) {
+                    if ((changed & 1) != 0) style((char) ('A' + i), state.get((char) ('A' + i)));
+                }
             }
+            case RESET -> onModelChanged();
+            default -> { }
+        }
+    }
+
+    /** Restyles every key from {@code state}; keys whose colour is unchanged are left alone. */
+    public void updateColors(KeyboardState state) {
+        for (char ch = 'A'; ch <= 'Z'; ch++) style(ch, state.get(ch));
+    }
+
+    private void style(char ch, LetterFeedback fb) {
+        Button b = buttons.get(ch);
+        if (b == null || shown.get(ch) == fb) return;
+        LetterFeedback was = shown.get(ch);
+        if (was != null) b.getStyleClass().remove(STYLE_CLASS[was.ordinal()]);
+        if (fb == null) shown.remove(ch);
+        else {
+            shown.put(ch, fb);
+            b.getStyleClass().add(STYLE_CLASS[fb.ordinal()]);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package org.example.wordle;
+
+import org.example.wordle.model.Dictionary;
+import org.example.wordle.model.DictionaryRegistry;
+import org.example.wordle.model.OpenDictionary;
+import org.example.wordle.model.PackedWord;
+import org.example.wordle.model.PackedWordSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guess validation sets, open dictionaries and the shared load-once registry.
+ */
+public class DictionaryTest {
+
+    @Test
+    void packedWordSet_growsAndValidatesCaseInsensitively() {
+        var set = new PackedWordSet(1);
+        for (String w : List.of("CRANE", "SLATE", "APPLE", "ZEBRA", "AAAAA")) assertTrue(set.add(PackedWord.pack(w)));
+        assertFalse(set.add(PackedWord.pack("crane")), "already present");
+        assertEquals(5, set.size());
+        assertTrue(set.contains(PackedWord.pack("zebra")));
+        assertFalse(set.contains(PackedWord.pack("QUILT")));
+        assertFalse(set.contains(PackedWord.pack("ZEBR4")));
+
+        var open = new OpenDictionary(new WordleModelTest.TestDictionary("CRANE"));
+        assertTrue(open.isValidWord("quilt"));
+        assertFalse(open.isValidWord("qu1lt"));
+        assertFalse(open.isValidWord(null));
+    }
+
+    @Test
+    void registry_sharesOneInstancePerListAcrossThreads() throws Exception {
+        var registry = DictionaryRegistry.shared();
+        var pool = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<Dictionary>>();
+            for (int i = 0; i < 8; i++) futures.add(pool.submit(registry::allowList));
+            for (var f : futures) assertSame(registry.allowList(), f.get());
+        } finally {
+            pool.shutdown();
+        }
+        assertSame(registry.hintEngine(), registry.hintEngine());
+        assertTrue(registry.allowList().isValidWord("alert"));
+        assertTrue(registry.loadTimesMillis().containsKey("allow-list dictionary"));
+    }
+}
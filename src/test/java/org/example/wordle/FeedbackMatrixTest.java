@@ -0,0 +1,51 @@
+package org.example.wordle;
+
+import org.example.wordle.io.FeedbackMatrixIO;
+import org.example.wordle.model.FeedbackMatrix;
+import org.example.wordle.model.FeedbackPattern;
+import org.example.wordle.model.PackedWord;
+import org.example.wordle.model.WordleModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guess x secret feedback matrix and its memory-mapped cache file, in temp directories.
+ */
+public class FeedbackMatrixTest {
+
+    @Test
+    void feedbackMatrix_cachedCopyIsMappedAndMatchesEvaluate(@TempDir Path dir) throws Exception {
+        List<String> guesses = List.of("CRANE", "SLATE", "APPLE", "HELLO");
+        List<String> secrets = List.of("REACT", "STARE", "LLAMA");
+        FeedbackMatrix fresh = FeedbackMatrixIO.loadOrCompute(dir, guesses, secrets);
+        Path file = FeedbackMatrixIO.cacheFile(dir, fresh.fingerprint());
+        assertTrue(Files.exists(file), "first call writes the cache");
+        assertFalse(fresh.patterns().isDirect(), "computed on the heap");
+        FeedbackMatrix mapped = FeedbackMatrixIO.loadOrCompute(dir, guesses, secrets);
+        assertTrue(mapped.patterns().isDirect(), "second call maps the file");
+        assertEquals(fresh.fingerprint(), mapped.fingerprint());
+        for (String g : guesses) {
+            for (String s : secrets) {
+                int expected = FeedbackPattern.encode(WordleModel.evaluate(g, s));
+                assertEquals(expected, fresh.lookup(PackedWord.pack(g), PackedWord.pack(s)));
+                assertEquals(expected, mapped.lookup(PackedWord.pack(g), PackedWord.pack(s)));
+            }
+        }
+
+        // a cell changed on disk is what the next load returns: nothing is recomputed
+        long cell = 24L + 4L * (guesses.size() + secrets.size()); // first guess vs first secret, both sorted
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.wrap(new byte[]{(byte) 200}), cell);
+        }
+        assertEquals(200, FeedbackMatrixIO.loadOrCompute(dir, guesses, secrets).pattern(0, 0));
+    }
+}
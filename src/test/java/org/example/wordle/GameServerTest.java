@@ -0,0 +1,124 @@
+package org.example.wordle;
+
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.model.OpenDictionary;
+import org.example.wordle.model.GameState;
+import org.example.wordle.model.GameStatus;
+import org.example.wordle.server.GameServer;
+import org.example.wordle.server.IdleSessionStore;
+import org.example.wordle.server.LoadTestClient;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameServerTest {
+
+    @Test
+    void playsAGameOverHttpAndSurvivesConcurrentLoad() throws Exception {
+        var engine = new HintEngine();
+        var server = new GameServer(0, 8, new OpenDictionary(new HintEngineTest.AnyWordDictionary("CRANE")), engine);
+        server.start();
+        try {
+            var http = HttpClient.newHttpClient();
+            URI base = URI.create("http://localhost:" + server.port());
+            var created = http.send(HttpRequest.newBuilder(base.resolve("/sessions")).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, created.statusCode());
+            String id = created.body().replaceAll(".*\"id\":\"([0-9a-f]+)\".*", "$1");
+
+            var bad = http.send(HttpRequest.newBuilder(base.resolve("/sessions/" + id + "/guess"))
+                    .POST(HttpRequest.BodyPublishers.ofString("CR4NE")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, bad.statusCode());
+            var guess = http.send(HttpRequest.newBuilder(base.resolve("/sessions/" + id + "/guess"))
+                    .POST(HttpRequest.BodyPublishers.ofString("slate")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, guess.statusCode());
+            assertTrue(guess.body().contains("{\"guess\":\"SLATE\",\"feedback\":\"--G-G\"}"), guess.body());
+            var hints = http.send(HttpRequest.newBuilder(base.resolve("/sessions/" + id + "/hints?k=3")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, hints.statusCode());
+            assertTrue(hints.body().matches("\\{\"hints\":\\[\"[A-Z]{5}\"(,\"[A-Z]{5}\")*]}"), hints.body());
+            var win = http.send(HttpRequest.newBuilder(base.resolve("/sessions/" + id + "/guess"))
+                    .POST(HttpRequest.BodyPublishers.ofString("CRANE")).build(), HttpResponse.BodyHandlers.ofString());
+            assertTrue(win.body().contains("\"status\":\"WON\""), win.body());
+            var over = http.send(HttpRequest.newBuilder(base.resolve("/sessions/" + id + "/guess"))
+                    .POST(HttpRequest.BodyPublishers.ofString("CRANE")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(409, over.statusCode());
+
+            var report = new LoadTestClient(base, 64, 10_000).run(500, 3, List.of("SLATE", "MOIST", "ROUND"), 7);
+            assertEquals(0, report.errors());
+            assertEquals(500 * 5, report.requests(), "create + 3 guesses + delete per session");
+            assertEquals(1, server.sessions().size(), "load-test sessions are deleted");
+            assertEquals(1, server.stats().snapshot().getGames(), "only the won game finished");
+            assertEquals(1, server.stats().snapshot().getGuessDistribution()[1]);
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void idleStore_expiresByTtlAndEvictsOldestWhenFull() {
+        var now = new AtomicLong();
+        var store = new IdleSessionStore(3, 1000, now::get);
+        GameState game = GameState.of(7, new int[0], 0, GameStatus.IN_PROGRESS, false);
+        for (long id = 1; id <= 3; id++) { store.park(id, game); now.addAndGet(100); }
+        store.park(1, game); // re-park makes 1 the newest
+        store.park(4, game); // full: evicts 2, the oldest
+        assertNull(store.take(2));
+        assertEquals(1, store.evictedCount());
+        assertEquals(game, store.take(1));
+        now.addAndGet(950); // 3 parked at 200 is past its TTL, 4 parked at 300 is not
+        store.expire();
+        assertNull(store.take(3));
+        assertEquals(game, store.take(4));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void idleStore_reparkingNeverEvictsBeforeTheStoreIsFull() {
+        var store = new IdleSessionStore(3, 1000, () -> 0);
+        GameState game = GameState.of(7, new int[0], 0, GameStatus.IN_PROGRESS, false);
+        store.park(1, game); // parked once, oldest in the ring from here on
+        for (int i = 0; i < 2 * 3 + 4; i++) store.park(2 + i % 2, game); // re-parks fill the ring with stale entries
+        assertEquals(0, store.evictedCount());
+        assertEquals(3, store.size());
+        assertEquals(game, store.take(1));
+        store.park(4, game);
+        store.park(5, game); // now full: evicts 2, the oldest live entry
+        assertEquals(1, store.evictedCount());
+        assertNull(store.take(2));
+    }
+
+    @Test
+    void parkedSessionResumesOnNextRequest() throws Exception {
+        var server = new GameServer(0, 2, new OpenDictionary(new HintEngineTest.AnyWordDictionary("CRANE")), new HintEngine(),
+                new IdleSessionStore(16, 60_000), 0);
+        server.start();
+        try {
+            var http = HttpClient.newHttpClient();
+            URI base = URI.create("http://localhost:" + server.port());
+            String id = http.send(HttpRequest.newBuilder(base.resolve("/sessions")).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString()).body().replaceAll(".*\"id\":\"([0-9a-f]+)\".*", "$1");
+            http.send(HttpRequest.newBuilder(base.resolve("/sessions/" + id + "/guess"))
+                    .POST(HttpRequest.BodyPublishers.ofString("SLATE")).build(), HttpResponse.BodyHandlers.ofString());
+            Thread.sleep(5);
+            assertEquals(1, server.parkIdleSessions());
+            assertEquals(0, server.sessions().size());
+            assertEquals(1, server.idleSessions().size());
+
+            var state = http.send(HttpRequest.newBuilder(base.resolve("/sessions/" + id)).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, state.statusCode());
+            assertTrue(state.body().contains("\"rows\":[{\"guess\":\"SLATE\",\"feedback\":\"--G-G\"}]"), state.body());
+            assertEquals(1, server.sessions().size());
+            assertEquals(0, server.idleSessions().size());
+        } finally {
+            server.stop();
+        }
+    }
+}
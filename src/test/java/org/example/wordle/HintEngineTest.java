@@ -0,0 +1,202 @@
+package org.example.wordle;
+
+import org.example.wordle.io.HintCacheIO;
+import org.example.wordle.model.DecisionTree;
+import org.example.wordle.model.Dictionary;
+import org.example.wordle.model.FeedbackMatrix;
+import org.example.wordle.model.FeedbackPattern;
+import org.example.wordle.model.GameState;
+import org.example.wordle.model.GameStatus;
+import org.example.wordle.model.HintCache;
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.model.HintService;
+import org.example.wordle.model.HintSession;
+import org.example.wordle.model.LetterFeedback;
+import org.example.wordle.model.PackedWord;
+import org.example.wordle.model.WordleModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hint engine behaviour over tiny in-memory word lists.
+ */
+public class HintEngineTest {
+
+    /** Accepts any A–Z word; the secret is fixed. */
+    static class AnyWordDictionary implements Dictionary {
+        private final String secret;
+        AnyWordDictionary(String secret) { this.secret = secret; }
+        @Override public boolean isValidWord(String word) { return word != null && word.matches("[A-Za-z]{5}"); }
+        @Override public String randomSecret() { return secret; }
+    }
+
+    @Test
+    void entropy_prefersProbeThatSplitsAllCandidates() {
+        // Candidates differ only in the 4th letter; a probe holding N,T,Z,V separates all four.
+        var engine = new HintEngine(List.of("CRANE", "CRATE", "CRAZE", "CRAVE"), List.of("NTZVQ", "SLOTH"));
+        var top = engine.suggest(List.of(), List.of(), 3, HintEngine.Scoring.ENTROPY);
+        assertEquals("NTZVQ", top.get(0));
+        assertTrue(top.subList(1, 3).stream().allMatch(w -> w.startsWith("CRA")), "candidates beat a useless probe");
+    }
+
+    @Test
+    void session_matchesFreshFilterAfterEveryGuessAndReset() {
+        var engine = new HintEngine();
+        List<String> words = new ArrayList<>(engine.getGuessPool());
+        var rng = new Random(42);
+        for (String secret : engine.getCorpus()) {
+            var model = new WordleModel(new AnyWordDictionary(secret), secret);
+            var session = new HintSession(engine, model);
+            assertEquals(engine.getCorpus(), session.candidates());
+            while (model.getStatus() == GameStatus.IN_PROGRESS) {
+                model.submitGuess(words.get(rng.nextInt(words.size())));
+                assertEquals(engine.filterCandidates(model.getGuesses(), model.getFeedback()), session.candidates(),
+                        "secret " + secret + " after " + model.getGuesses());
+                assertTrue(session.candidates().contains(secret));
+            }
+            // another game with no fewer rows, then a reset and a guess arriving as one event
+            String other = engine.getCorpus().get((engine.getCorpus().indexOf(secret) + 1) % engine.getCorpus().size());
+            int[] replay = new int[model.turnsTaken()];
+            for (int i = 0; i < replay.length; i++) replay[i] = PackedWord.pack(words.get(rng.nextInt(words.size())));
+            model.restore(GameState.replayed(PackedWord.pack(other), replay, replay.length, false, false));
+            assertEquals(engine.filterCandidates(model.getGuesses(), model.getFeedback()), session.candidates(),
+                    "restored " + other + " after " + model.getGuesses());
+            model.batch(() -> {
+                model.reset(secret);
+                model.submitGuess(words.get(rng.nextInt(words.size())));
+            });
+            assertEquals(engine.filterCandidates(model.getGuesses(), model.getFeedback()), session.candidates(),
+                    "secret " + secret + " after reset and " + model.getGuesses());
+            model.reset(secret);
+            assertEquals(engine.getCorpus(), session.candidates());
+            session.close();
+        }
+    }
+
+    @Test
+    void tree_solvesEverySecretWithinSixGuesses() {
+        var engine = new HintEngine(); // picks up the shipped decision-tree.bin
+        for (String secret : engine.getCorpus()) {
+            var model = new WordleModel(new AnyWordDictionary(secret), secret);
+            while (model.getStatus() == GameStatus.IN_PROGRESS) {
+                var next = engine.suggest(model.getGuesses(), model.getFeedback(), 1, HintEngine.Scoring.TREE);
+                model.submitGuess(next.get(0));
+            }
+            assertEquals(GameStatus.WON, model.getStatus(), "secret " + secret + " via " + model.getGuesses());
+        }
+    }
+
+    @Test
+    void service_precomputesAndCancelsStaleRequests() throws Exception {
+        var engine = new HintEngine();
+        String secret = engine.getCorpus().get(0);
+        var model = new WordleModel(new AnyWordDictionary(secret), secret);
+        var executor = HintService.newExecutor();
+        try (var service = new HintService(engine, model, executor, 5)) {
+            var first = service.request();
+            assertEquals(engine.suggest(List.of(), List.of(), 5), first.get(5, TimeUnit.SECONDS));
+            assertSame(first, service.request(), "speculative result is reused");
+
+            var stale = service.request();
+            model.submitGuess("ZZZZZ".equals(secret) ? "QQQQQ" : "ZZZZZ");
+            assertTrue(stale.isDone());
+            var next = service.request();
+            assertNotSame(stale, next);
+            assertEquals(engine.suggest(model.getGuesses(), model.getFeedback(), 5), next.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void filter_keepsExactlyTheWordsConsistentWithEveryRow() {
+        var engine = new HintEngine();
+        List<String> corpus = engine.getCorpus(), pool = engine.getGuessPool();
+        var rnd = new Random(21);
+        for (int board = 0; board < 5000; board++) {
+            String secret = corpus.get(rnd.nextInt(corpus.size()));
+            List<String> guesses = new ArrayList<>();
+            List<List<LetterFeedback>> fb = new ArrayList<>();
+            for (int r = 1 + rnd.nextInt(3); r > 0; r--) {
+                String g = pool.get(rnd.nextInt(pool.size()));
+                guesses.add(g);
+                fb.add(WordleModel.evaluate(g, secret));
+            }
+            List<String> expected = new ArrayList<>();
+            for (String w : corpus) {
+                boolean consistent = true;
+                for (int r = 0; r < guesses.size() && consistent; r++) consistent = WordleModel.evaluate(guesses.get(r), w).equals(fb.get(r));
+                if (consistent) expected.add(w);
+            }
+            assertEquals(expected, engine.filterCandidates(guesses, fb), "board " + guesses + " for " + secret);
+        }
+    }
+
+    @Test
+    void frequencyRemainsDefault() {
+        var engine = new HintEngine(List.of("CRANE", "CRATE"), List.of("NTZVQ"));
+        assertEquals(HintEngine.Scoring.FREQUENCY, engine.getScoring());
+        assertFalse(engine.suggest(List.of(), List.of(), 5).contains("NTZVQ"), "frequency mode only ranks candidates");
+    }
+
+    @Test
+    void cache_hitsOnSameBoardInAnyRowOrderAndSurvivesRestart(@TempDir Path dir) throws Exception {
+        var engine = new HintEngine();
+        var cache = new HintCache(2);
+        engine.setCache(cache);
+        var a = new WordleModel(new AnyWordDictionary("CRANE"), "CRANE");
+        a.submitGuess("SLATE"); a.submitGuess("MOIST");
+        var b = new WordleModel(new AnyWordDictionary("CRANE"), "CRANE");
+        b.submitGuess("MOIST"); b.submitGuess("SLATE");
+
+        var first = engine.suggest(a.getGuesses(), a.getFeedback(), 5, HintEngine.Scoring.ENTROPY);
+        assertEquals(first, engine.suggest(b.getGuesses(), b.getFeedback(), 5, HintEngine.Scoring.ENTROPY));
+        assertEquals(new HintCache.Counters(1, 1, 0, 1), cache.counters());
+        engine.suggest(List.of(), List.of(), 5, HintEngine.Scoring.FREQUENCY);
+        engine.suggest(List.of(), List.of(), 3, HintEngine.Scoring.FREQUENCY);
+        assertEquals(1, cache.counters().evictions());
+
+        Path file = dir.resolve("hints.txt");
+        HintCacheIO.save(file, cache, engine.fingerprint(), 10);
+        var restored = new HintCache(8);
+        assertEquals(0, HintCacheIO.load(file, restored, engine.fingerprint() + 1), "other word lists");
+        assertEquals(2, HintCacheIO.load(file, restored, engine.fingerprint()));
+        assertEquals(engine.suggest(List.of(), List.of(), 3, HintEngine.Scoring.FREQUENCY),
+                restored.get(HintCache.key(HintEngine.Scoring.FREQUENCY, 3, List.of(), List.of())));
+    }
+
+    @Test
+    void cache_keepsRowOrderForTreeWhosePathDependsOnIt() {
+        List<String> corpus = List.of("CRANE", "CRATE", "CRAZE", "CRAVE", "SLATE", "MOIST");
+        var engine = new HintEngine(corpus, List.of("NTZVQ"));
+        var slate = WordleModel.evaluate("SLATE", "CRANE");
+        var moist = WordleModel.evaluate("MOIST", "CRANE");
+        // SLATE, then MOIST, then a move no ranking would choose, so the tree path is visible
+        engine.setDecisionTree(new DecisionTree(DecisionTree.fingerprintOf(FeedbackMatrix.packSorted(corpus)),
+                new int[]{PackedWord.pack("SLATE"), PackedWord.pack("MOIST"), PackedWord.pack("QAJAQ")},
+                new int[]{0, 1, 2, 2},
+                new byte[]{(byte) FeedbackPattern.encode(slate), (byte) FeedbackPattern.encode(moist)},
+                new int[]{1, 2}));
+        long withTree = engine.fingerprint();
+        var cache = new HintCache(8);
+        engine.setCache(cache);
+
+        var tree = HintEngine.Scoring.TREE;
+        assertEquals("QAJAQ", engine.suggest(List.of("SLATE", "MOIST"), List.of(slate, moist), 1, tree).get(0));
+        var swapped = engine.suggest(List.of("MOIST", "SLATE"), List.of(moist, slate), 1, tree);
+        assertNotEquals(List.of("QAJAQ"), swapped, "swapped rows are off the tree");
+        assertEquals(0, cache.counters().hits());
+        assertEquals(engine.suggest(List.of("MOIST", "SLATE"), List.of(moist, slate), 1, HintEngine.Scoring.ENTROPY), swapped);
+
+        engine.setDecisionTree(null);
+        assertNotEquals(withTree, engine.fingerprint(), "persisted TREE answers depend on the tree");
+    }
+}
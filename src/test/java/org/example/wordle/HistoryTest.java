@@ -0,0 +1,82 @@
+package org.example.wordle;
+
+import org.example.wordle.io.GameHistory;
+import org.example.wordle.io.HistoryStatsIO;
+import org.example.wordle.model.GameRecord;
+import org.example.wordle.model.GameStatus;
+import org.example.wordle.model.HistoryStats;
+import org.example.wordle.model.PackedWord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Game history columns, streaming aggregates and their snapshot file, in temp directories.
+ */
+public class HistoryTest {
+
+    @Test
+    void history_aggregatesStreamAndResumeFromSnapshot(@TempDir Path dir) throws Exception {
+        int crane = PackedWord.pack("CRANE"), fjord = PackedWord.pack("FJORD");
+        long hour = 3_600_000L;
+        List<GameRecord> games = List.of(
+                new GameRecord(9 * hour, crane, 3, GameStatus.WON, false),
+                new GameRecord(9 * hour + 1, fjord, 6, GameStatus.LOST, true),
+                new GameRecord(10 * hour, crane, 2, GameStatus.WON, false),
+                new GameRecord(10 * hour + 1, fjord, 6, GameStatus.WON, true),
+                new GameRecord(33 * hour, crane, 4, GameStatus.WON, false)); // 09:00 next day
+        Path snapshot = dir.resolve("history-stats.txt");
+        try (var history = GameHistory.open(dir.resolve("history"))) {
+            for (GameRecord g : games.subList(0, 3)) history.append(g);
+            var first = HistoryStatsIO.loadOrRebuild(snapshot, history, ZoneOffset.UTC);
+            assertEquals(3, first.count());
+            HistoryStatsIO.save(snapshot, first);
+            for (GameRecord g : games.subList(3, 5)) history.append(g); // played after the last save
+        }
+
+        try (var history = GameHistory.open(dir.resolve("history"))) {
+            assertEquals(5, history.size());
+            List<GameRecord> read = new ArrayList<>();
+            history.scan(0, read::add);
+            assertEquals(games, read);
+
+            HistoryStats s = HistoryStatsIO.loadOrRebuild(snapshot, history, ZoneOffset.UTC);
+            assertEquals(5, s.count());
+            assertEquals(3, s.currentStreak());
+            assertEquals(3, s.maxStreak());
+            assertEquals(3, s.word("CRANE").percentile(0.5));
+            assertEquals(4, s.word("crane").percentile(1.0));
+            assertEquals(0.5, s.word("FJORD").solveRate());
+            assertEquals(2, s.hardMode().games());
+            assertEquals(3, s.hour(9).games());
+            assertEquals(List.of("FJORD", "CRANE"), s.hardestWords(5, 1).stream().map(HistoryStats.WordTally::word).toList());
+
+            var full = new HistoryStats(ZoneOffset.UTC);
+            history.scan(0, full::record);
+            assertEquals(Arrays.toString(full.all().values()), Arrays.toString(s.all().values()), "snapshot + tail == full scan");
+            assertNull(HistoryStatsIO.load(snapshot, ZoneOffset.ofHours(2)), "hour buckets are per time zone");
+        }
+
+        // a crash between column writes leaves one column a row ahead; opening trims it
+        try (var ch = FileChannel.open(dir.resolve("history").resolve("time.col"), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ch.write(ByteBuffer.allocate(8));
+        }
+        try (var history = GameHistory.open(dir.resolve("history"))) {
+            assertEquals(5, history.size());
+            history.append(games.get(0));
+            List<GameRecord> read = new ArrayList<>();
+            history.scan(5, read::add);
+            assertEquals(List.of(games.get(0)), read);
+        }
+    }
+}
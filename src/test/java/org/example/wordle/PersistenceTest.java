@@ -0,0 +1,188 @@
+package org.example.wordle;
+
+import org.example.wordle.io.GameJournal;
+import org.example.wordle.io.Persistence;
+import org.example.wordle.io.SaveSlotStore;
+import org.example.wordle.io.StatsIO;
+import org.example.wordle.io.StatsWriter;
+import org.example.wordle.model.ConcurrentStats;
+import org.example.wordle.model.GameState;
+import org.example.wordle.model.GameStatus;
+import org.example.wordle.model.PackedWord;
+import org.example.wordle.model.Stats;
+import org.example.wordle.model.WordleModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Save files, the auto-save journal and other on-disk game and stats state, in temp directories.
+ */
+public class PersistenceTest {
+
+    @Test
+    void journal_recoversGameWithoutReplayAndIgnoresTornTail(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("journal.bin");
+        var model = new WordleModel(new WordleModelTest.TestDictionary("CRANE", "SLATE", "STARE"), "CRANE");
+        model.setHardMode(true);
+        try (var journal = new GameJournal(file, 60_000)) {
+            journal.attach(model);
+            model.submitGuess("SLATE");
+            model.submitGuess("STARE");
+        }
+        GameState state = GameJournal.recover(file);
+        assertEquals(model.dehydrate(), state);
+        var restored = WordleModel.hydrate(new WordleModelTest.TestDictionary("CRANE"), state); // guesses needn't be valid words any more
+        assertEquals(model.getGuesses(), restored.getGuesses());
+        assertEquals(model.getFeedback(), restored.getFeedback());
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5)); // crash mid-append
+        assertEquals(List.of("SLATE"), WordleModel.hydrate(new WordleModelTest.TestDictionary("CRANE"), GameJournal.recover(file)).getGuesses());
+        bytes[bytes.length - 6] ^= 1; // corrupt the last record's word
+        Files.write(file, bytes);
+        assertEquals(1, GameJournal.recover(file).guessCount());
+    }
+
+    @Test
+    void journal_startsOverOnReset(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("journal.bin");
+        var model = new WordleModel(new WordleModelTest.TestDictionary("CRANE", "SLATE"), "CRANE");
+        try (var journal = new GameJournal(file, 60_000)) {
+            journal.attach(model);
+            model.submitGuess("SLATE");
+            model.submitGuess("CRANE");
+            assertEquals(GameStatus.WON, GameJournal.recover(file).status());
+            model.reset("SLATE");
+        }
+        GameState state = GameJournal.recover(file);
+        assertEquals(PackedWord.pack("SLATE"), state.secret());
+        assertEquals(0, state.guessCount());
+        assertEquals(GameStatus.IN_PROGRESS, state.status());
+    }
+
+    @Test
+    void journal_recordsModeTogglesWithoutWaitingForAGuess(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("journal.bin");
+        var model = new WordleModel(new WordleModelTest.TestDictionary("CRANE", "SLATE"), "CRANE");
+        model.setHardMode(true);
+        try (var journal = new GameJournal(file, 60_000)) {
+            journal.attach(model);
+            model.submitGuess("SLATE");
+            model.setStrictHardMode(true); // hard mode is already on
+            assertTrue(GameJournal.recover(file).strictHardMode());
+            model.setStrictHardMode(false);
+            GameState state = GameJournal.recover(file);
+            assertFalse(state.strictHardMode());
+            assertTrue(state.hardMode());
+            assertEquals(1, state.guessCount());
+            model.setHardMode(false);
+        }
+        assertEquals(model.dehydrate(), GameJournal.recover(file));
+    }
+
+    @Test
+    void saveSlots_growReuseFreedRecordsAndSurviveReopen(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("slots.bin");
+        int crane = PackedWord.pack("CRANE"), slate = PackedWord.pack("SLATE");
+        try (var store = SaveSlotStore.open(file, 2)) {
+            for (long slot = 0; slot < 5; slot++) {
+                store.put(slot * 1000, GameState.replayed(crane, new int[]{slate}, (int) slot % 2, false, false));
+            }
+            assertEquals(5, store.size());
+            assertEquals(8, store.capacity(), "doubled twice");
+            assertTrue(store.remove(2000));
+            assertFalse(store.remove(2000));
+            store.put(7, GameState.replayed(crane, new int[]{crane}, 1, true, false));
+            assertEquals(8, store.capacity(), "freed record reused");
+            assertNull(store.get(2000));
+        }
+        try (var store = SaveSlotStore.open(file, 2)) {
+            assertEquals(5, store.size());
+            assertEquals(GameStatus.WON, store.get(7).status());
+            assertTrue(store.get(7).hardMode());
+            assertEquals(1, store.get(3000).guessCount());
+            assertEquals(slate, store.get(3000).guess(0));
+        }
+    }
+
+    @Test
+    void saveSlots_importAndExportTheTextFormat(@TempDir Path dir) throws Exception {
+        Path in = dir.resolve("in"), out = dir.resolve("out");
+        Persistence.save(in.resolve("42.txt"), "CRANE", List.of("SLATE", "STARE"), GameStatus.IN_PROGRESS);
+        Persistence.save(in.resolve("43.txt"), "CRANE", List.of("CRANE"), GameStatus.WON);
+        Files.writeString(in.resolve("notes.txt"), "not a slot");
+        try (var store = SaveSlotStore.open(dir.resolve("slots.bin"), 16)) {
+            assertEquals(2, store.importText(in));
+            assertEquals(GameStatus.WON, store.get(43).status());
+            assertEquals(2, store.exportText(out));
+        }
+        var loaded = Persistence.load(out.resolve("42.txt"));
+        assertEquals("CRANE", loaded.secret);
+        assertEquals(List.of("SLATE", "STARE"), loaded.guesses);
+        assertEquals(Files.readAllLines(in.resolve("43.txt")), Files.readAllLines(out.resolve("43.txt")));
+    }
+
+    @Test
+    void statsWriter_coalescesConcurrentResultsAndFlushesOnClose(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("stats.txt");
+        var stats = new ConcurrentStats(new Stats(2, 1, new int[]{0, 0, 1, 0, 0, 0}));
+        var writer = new StatsWriter(file, stats::snapshot, 60_000);
+        Thread[] players = new Thread[4];
+        for (int t = 0; t < players.length; t++) {
+            players[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    stats.recordGame(i % 4 == 0 ? GameStatus.LOST : GameStatus.WON, 1 + i % 6);
+                    writer.changed();
+                }
+            });
+            players[t].start();
+        }
+        for (Thread t : players) t.join();
+        assertEquals(0, writer.writes(), "nothing written before the delay");
+        writer.close();
+        assertEquals(1, writer.writes(), "4000 results, one write");
+
+        Stats saved = StatsIO.load(file);
+        assertEquals(4002, saved.getGames());
+        assertEquals(3001, saved.getWins());
+        assertEquals(4 * 84 + 1, saved.getGuessDistribution()[2], "wins in 3 guesses, plus the seeded one");
+        assertFalse(Files.exists(dir.resolve("stats.txt.tmp")));
+    }
+
+    @Test
+    void statsWriter_closeLetsARunningSaveFinishInsteadOfInterruptingIt(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("stats.txt");
+        var stats = new ConcurrentStats();
+        CountDownLatch saving = new CountDownLatch(1), release = new CountDownLatch(1);
+        var writer = new StatsWriter(file, () -> {
+            saving.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try { release.await(); break; }
+                catch (InterruptedException e) { interrupted = true; }
+            }
+            if (interrupted) Thread.currentThread().interrupt(); // as if interrupted inside the file write
+            return stats.snapshot();
+        }, 0);
+        stats.recordGame(GameStatus.WON, 3);
+        writer.changed();
+        assertTrue(saving.await(5, TimeUnit.SECONDS));
+
+        Thread closer = new Thread(() -> assertDoesNotThrow(writer::close));
+        closer.start();
+        closer.join(100); // close() is now waiting for the save
+        release.countDown();
+        closer.join();
+        assertNull(writer.lastFailure());
+        assertEquals(1, StatsIO.load(file).getGames());
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.wordle;
+
+import org.example.wordle.model.HintEngine;
+import org.example.wordle.solver.HintStrategy;
+import org.example.wordle.solver.Simulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulatorTest {
+
+    @Test
+    void playsEverySecretHeadlessAcrossThreads() throws Exception {
+        var engine = new HintEngine();
+        var report = new Simulator(new HintStrategy(engine, HintEngine.Scoring.ENTROPY), 4).run(engine.getCorpus());
+        assertEquals(engine.getCorpus().size(), report.games());
+        assertEquals(report.wins(), Arrays.stream(report.guessDistribution()).sum());
+        assertEquals(0.0, report.failureRate(), "entropy hints solve the shipped list");
+        assertTrue(report.p99Micros() >= report.p50Micros());
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.wordle;
+
+import org.example.wordle.model.WordListFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Word lists in text and precompiled binary form.
+ */
+public class WordListFileTest {
+
+    @Test
+    void wordListFile_binaryRoundTripsAndRejectsCorruption() throws Exception {
+        int[] fromText;
+        try (var in = getClass().getResourceAsStream("/wordlist.txt")) { fromText = WordListFile.readText(in); }
+        assertArrayEquals(fromText, WordListFile.load("/wordlist.txt"));
+
+        var bytes = new ByteArrayOutputStream();
+        WordListFile.write(bytes, fromText, 0L);
+        byte[] image = bytes.toByteArray();
+        assertArrayEquals(fromText, WordListFile.readBinary(ByteBuffer.wrap(image)));
+        image[image.length - 1] ^= 1;
+        assertNull(WordListFile.readBinary(ByteBuffer.wrap(image)), "checksum mismatch");
+    }
+}
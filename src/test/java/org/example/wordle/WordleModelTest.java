@@ -1,11 +1,17 @@
 package org.example.wordle;
 
 import org.example.wordle.model.Dictionary;
+import org.example.wordle.model.FeedbackPattern;
+import org.example.wordle.model.GameState;
 import org.example.wordle.model.GameStatus;
 import org.example.wordle.model.LetterFeedback;
+import org.example.wordle.model.PackedWord;
 import org.example.wordle.model.WordleModel;
+import org.example.wordle.util.ModelEvent;
+import org.example.wordle.util.ModelListener;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -135,6 +141,209 @@ public class WordleModelTest {
         assertThrows(IllegalArgumentException.class, () -> model.submitGuess("SORED")); // lacks 'L' and 'T'
     }
 
+    @Test
+    void packedWord_roundTripsAndRejectsNonLetters() {
+        int p = PackedWord.pack("crane");
+        assertEquals("CRANE", PackedWord.unpack(p));
+        assertTrue(PackedWord.pack("APPLE") < PackedWord.pack("APPLY"), "packed order follows word order");
+        assertEquals(PackedWord.INVALID, PackedWord.pack("CR4NE"));
+        assertEquals(PackedWord.INVALID, PackedWord.pack("CRANES"));
+    }
+
+    @Test
+    void evaluatePacked_matchesEvaluateOverWordlist() throws Exception {
+        List<String> words;
+        try (var in = getClass().getResourceAsStream("/wordlist.txt")) {
+            assertNotNull(in, "wordlist.txt on classpath");
+            words = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .map(String::trim).filter(w -> w.length() == 5).map(String::toUpperCase)
+                    .collect(Collectors.toList());
+        }
+        for (String g : words) {
+            int pg = PackedWord.pack(g);
+            for (String s : words) {
+                var expected = WordleModel.evaluate(g, s);
+                int code = WordleModel.evaluatePacked(pg, PackedWord.pack(s));
+                assertEquals(FeedbackPattern.encode(expected), code, g + " vs " + s);
+                assertEquals(expected, FeedbackPattern.decode(code), g + " vs " + s);
+            }
+        }
+        assertEquals(FeedbackPattern.ALL_CORRECT, WordleModel.evaluatePacked(PackedWord.pack("HELLO"), PackedWord.pack("HELLO")));
+    }
+
+    @Test
+    void gameState_roundTripsEveryFieldThroughThreeLongs() {
+        var dict = new TestDictionary("STARE").add("SLATE", "STATE", "ZZZZZ", "QUILT", "MOUTH");
+        var model = new WordleModel(dict, "STARE");
+        model.setHardMode(true);
+        model.submitGuess("SLATE");
+        model.submitGuess("STATE");
+        GameState state = model.dehydrate();
+        assertEquals(2, state.guessCount());
+        assertEquals(PackedWord.pack("STATE"), state.guess(1));
+
+        var copy = WordleModel.hydrate(dict, state);
+        assertEquals(model.getGuesses(), copy.getGuesses());
+        assertEquals(model.getFeedback(), copy.getFeedback());
+        assertEquals(model.getKeyboard().snapshot(), copy.getKeyboard().snapshot());
+        assertTrue(copy.isHardMode());
+        assertEquals(state, copy.dehydrate());
+
+        // six guesses straddle both word boundaries
+        var full = new WordleModel(new TestDictionary("ZZZZZ").add("SLATE", "STATE", "QUILT", "MOUTH", "STARE"), "ZZZZZ");
+        for (String g : List.of("SLATE", "STATE", "QUILT", "MOUTH", "STARE", "ZZZZZ")) full.submitGuess(g);
+        GameState s6 = full.dehydrate();
+        assertEquals(GameStatus.WON, s6.status());
+        assertEquals(PackedWord.pack("ZZZZZ"), s6.guess(5));
+        assertEquals(full.getGuesses(), WordleModel.hydrate(dict, s6).getGuesses());
+    }
+
+    @Test
+    void snapshot_isReusedUntilTheModelChanges() {
+        var model = new WordleModel(new TestDictionary("CRANE", "SLATE"), "CRANE");
+        var empty = model.snapshot();
+        assertSame(empty, model.snapshot());
+        model.submitGuess("SLATE");
+        var one = model.snapshot();
+        assertNotSame(empty, one);
+        assertTrue(one.version() > empty.version());
+        assertSame(one.guesses(), model.getGuesses(), "getters share the snapshot's lists");
+        assertEquals(List.of("SLATE"), one.guesses());
+        assertThrows(UnsupportedOperationException.class, () -> one.guesses().add("CRANE"));
+        assertThrows(UnsupportedOperationException.class, () -> one.feedback().get(0).set(0, LetterFeedback.CORRECT));
+        model.reset("CRANE");
+        assertEquals(0, model.snapshot().turns());
+        assertEquals(1, one.turns(), "old snapshots stay unchanged");
+    }
+
+    @Test
+    void events_describeEachChangeAndDefaultListenersSeeOnePerGameChange() {
+        var model = new WordleModel(new TestDictionary("CRANE", "SLATE"), "CRANE");
+        List<ModelEvent> events = new ArrayList<>();
+        int[] plain = {0};
+        model.addListener(new ModelListener() {
+            @Override public void onModelChanged() { }
+            @Override public void onModelEvent(ModelEvent e) { events.add(e); }
+        });
+        model.addListener(() -> plain[0]++);
+
+        model.setPreview("sl");
+        model.setPreview("SL"); // unchanged
+        model.submitGuess("SLATE");
+        model.submitGuess("CRANE");
+        model.reset("CRANE");
+        assertEquals(List.of(ModelEvent.previewChanged(0), ModelEvent.rowSubmitted(0), ModelEvent.rowSubmitted(1),
+                ModelEvent.STATUS_CHANGED, ModelEvent.RESET), events);
+        assertEquals(3, plain[0], "two guesses and a reset");
+        assertEquals("", model.getPreview());
+    }
+
+    @Test
+    void dispatch_coalescesBatchesAndQueuedEventsAndToleratesRemovalDuringDispatch() {
+        var model = new WordleModel(new TestDictionary("CRANE", "SLATE", "MOUTH"), "CRANE");
+        List<ModelEvent> sync = new ArrayList<>();
+        List<Runnable> queued = new ArrayList<>();
+        List<ModelEvent> async = new ArrayList<>();
+        ModelListener[] selfRemoving = new ModelListener[1];
+        selfRemoving[0] = () -> model.removeListener(selfRemoving[0]);
+        model.addListener(selfRemoving[0]);
+        model.addListener(new ModelListener() {
+            @Override public void onModelChanged() { }
+            @Override public void onModelEvent(ModelEvent e) { sync.add(e); }
+        });
+        model.addListener(new ModelListener() {
+            @Override public void onModelChanged() { }
+            @Override public void onModelEvent(ModelEvent e) { async.add(e); }
+        }, queued::add);
+
+        model.batch(() -> {
+            model.submitGuess("SLATE");
+            model.submitGuess("MOUTH");
+        });
+        assertEquals(List.of(ModelEvent.RESET), sync, "a batch fires once");
+        model.setPreview("C");
+        model.setPreview("CR");
+        assertEquals(1, queued.size(), "later events merge into the scheduled one");
+        queued.get(0).run();
+        assertEquals(List.of(ModelEvent.RESET), async);
+        var stats = model.dispatchStats();
+        assertTrue(stats.coalesced() >= 3);
+        assertTrue(stats.delivered() >= 4);
+    }
+
+    @Test
+    void dispatch_deliversQueuedEventsInOrderSoASubmittedGuessIsNotAReset() {
+        var model = new WordleModel(new TestDictionary("CRANE", "SLATE"), "CRANE");
+        List<Runnable> frames = new ArrayList<>();
+        List<ModelEvent> seen = new ArrayList<>();
+        model.addListener(new ModelListener() {
+            @Override public void onModelChanged() { }
+            @Override public void onModelEvent(ModelEvent e) { seen.add(e); }
+        }, frames::add);
+
+        // one FX tick, as in the controller: type, submit, clear the preview
+        model.setPreview("SLATE");
+        model.submitGuess("SLATE");
+        model.setPreview("");
+        assertEquals(1, frames.size());
+        frames.remove(0).run();
+        assertEquals(List.of(ModelEvent.rowSubmitted(0), ModelEvent.previewChanged(1)), seen,
+                "the earlier preview is superseded, the submitted row is not");
+
+        seen.clear();
+        model.setPreview("CRANE");
+        model.submitGuess("CRANE");
+        model.setPreview("");
+        frames.remove(0).run();
+        assertEquals(List.of(ModelEvent.rowSubmitted(1), ModelEvent.STATUS_CHANGED, ModelEvent.previewChanged(2)), seen);
+
+        seen.clear();
+        model.setPreview("S");
+        model.reset("CRANE");
+        model.setPreview("C");
+        frames.remove(0).run();
+        assertEquals(List.of(ModelEvent.RESET), seen, "a reset covers everything queued around it");
+        assertTrue(frames.isEmpty());
+    }
+
+    @Test
+    void keyboard_reportsOnlyLettersWhoseColourChangedInTheLastGuess() {
+        var model = new WordleModel(new TestDictionary("CRANE", "SLATE", "STARE"), "CRANE");
+        model.submitGuess("SLATE"); // S,L,T absent; A,E correct
+        var kb = model.getKeyboard();
+        assertEquals(mask("SLATE"), kb.changedLetters());
+        assertEquals(LetterFeedback.CORRECT, kb.get('a'));
+        model.submitGuess("STARE"); // only R is new (present); S,T,A,E unchanged
+        assertEquals(mask("R"), kb.changedLetters());
+        assertEquals(LetterFeedback.PRESENT, kb.get('R'));
+        assertEquals(Map.of('S', LetterFeedback.ABSENT, 'L', LetterFeedback.ABSENT, 'A', LetterFeedback.CORRECT,
+                'T', LetterFeedback.ABSENT, 'E', LetterFeedback.CORRECT, 'R', LetterFeedback.PRESENT), kb.snapshot());
+        model.reset("CRANE");
+        assertEquals(mask("SLATER"), kb.changedLetters(), "reset clears every coloured key");
+        assertNull(kb.get('S'));
+    }
+
+    private static int mask(String letters) {
+        int m = 0;
+        for (char c : letters.toCharArray()) m |= 1 << (c - 'A');
+        return m;
+    }
+
+    @Test
+    void strictHardMode_rejectsLettersInRuledOutPositions() {
+        var dict = new TestDictionary("STARE").add("SLATE", "SPATE");
+        var model = new WordleModel(dict, "STARE");
+        model.setStrictHardMode(true);
+        assertTrue(model.isHardMode());
+        model.submitGuess("SLATE"); // T is yellow in position 4
+        var ex = assertThrows(IllegalArgumentException.class, () -> model.submitGuess("SPATE"));
+        assertEquals("Hard mode: 'T' can't be in position 4", ex.getMessage());
+        model.setStrictHardMode(false);
+        assertDoesNotThrow(() -> model.submitGuess("SPATE"), "plain hard mode only needs the letters reused");
+        assertEquals(1, model.getConstraints().minCount('T'));
+        assertEquals(0, model.getConstraints().maxCount('P'), "grey letter");
+    }
+
     @Test
     void hardMode_validReuseAccepted() {
         var dict = new TestDictionary("STARE").add("SLATE", "STATE");